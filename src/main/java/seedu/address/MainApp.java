@@ -3,6 +3,8 @@ package seedu.address;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -26,13 +28,17 @@ import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleArticleDataUtil;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.ArticleBookConverter;
 import seedu.address.storage.ArticleBookStorage;
+import seedu.address.storage.BinaryArticleBookStorage;
+import seedu.address.storage.JournalArticleBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonArticleBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindSaver;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -48,9 +54,13 @@ public class MainApp extends Application {
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
+    protected WriteBehindSaver saver;
     protected Model model;
     protected Config config;
 
+    private boolean isAddressBookFromStorage;
+    private boolean isArticleBookFromStorage;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
@@ -62,59 +72,140 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        ArticleBookStorage articleBookStorage = new JsonArticleBookStorage(userPrefs.getArticleBookFilePath());
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        JournalArticleBookStorage journal = null;
+        ArticleBookStorage articleBookStorage;
+        Path binaryArticleBookFilePath = BinaryArticleBookStorage.toBinaryFilePath(userPrefs.getArticleBookFilePath());
+        if (userPrefs.isArticleBookJournaled()) {
+            if (userPrefs.isArticleBookBinary()) {
+                logger.warning("The article book is journaled, so it is kept in " + userPrefs.getArticleBookFilePath()
+                        + " and not in the binary format also asked for.");
+            }
+            journal = new JournalArticleBookStorage(userPrefs.getArticleBookFilePath(),
+                    JournalArticleBookStorage.DEFAULT_COMPACTION_THRESHOLD, userPrefs.getDataFileSyncPolicy());
+            articleBookStorage = journal;
+        } else if (userPrefs.isArticleBookBinary()
+                && initBinaryArticleBookFile(userPrefs.getArticleBookFilePath(), binaryArticleBookFilePath)) {
+            articleBookStorage = new BinaryArticleBookStorage(binaryArticleBookFilePath,
+                    userPrefs.getDataFileSyncPolicy());
+        } else {
+            articleBookStorage = new JsonArticleBookStorage(userPrefs.getArticleBookFilePath(),
+                    userPrefs.isDataFileCompact(), userPrefs.getDataFileSyncPolicy());
+        }
+        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath(),
+                userPrefs.isDataFileCompact(), userPrefs.getDataFileSyncPolicy());
         storage = new StorageManager(addressBookStorage, userPrefsStorage, articleBookStorage);
 
         model = initModelManager(storage, userPrefs);
-        storage.saveAddressBook(model.getAddressBook());
-        storage.saveArticleBook(model.getArticleBook());
-        logic = new LogicManager(model, storage);
+        // Data read as it is from the data files needs no saving; sample or empty data does.
+        if (!isAddressBookFromStorage) {
+            storage.saveAddressBook(model.getAddressBook());
+        }
+        if (!isArticleBookFromStorage) {
+            storage.saveArticleBook(model.getArticleBook());
+        }
+        if (journal != null) {
+            journal.startJournal(model.getArticleBook());
+            model.addArticleBookListener(journal);
+        }
+        saver = new WriteBehindSaver(storage);
+        logic = new LogicManager(model, storage, saver);
 
         ui = new UiManager(logic);
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * Returns true if the article book can be kept in the binary file at {@code binaryFilePath}, converting the
+     * json file at {@code jsonFilePath} to it first if only the json file exists yet, so that switching to the
+     * binary format keeps the articles.
+     * Returns false if that conversion fails, in which case the article book should stay in the json file.
+     */
+    private boolean initBinaryArticleBookFile(Path jsonFilePath, Path binaryFilePath) {
+        try {
+            if (ArticleBookConverter.convertIfMissing(jsonFilePath, binaryFilePath)) {
+                logger.info("Converted the article book in " + jsonFilePath + " to " + binaryFilePath);
+            }
+            return true;
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Could not convert the article book in " + jsonFilePath + " to " + binaryFilePath
+                    + ", so it is kept in " + jsonFilePath + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}, and
+     * records which books were read from {@code storage}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * The address book and article book are read at the same time, as they are only linked by the model.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
 
-        Optional<ReadOnlyAddressBook> addressBookOptional;
-        ReadOnlyAddressBook initialData;
+        long startTime = System.nanoTime();
+        // Read on a thread of its own, as converting the articles keeps the common pool busy.
+        CompletableFuture<ReadOnlyArticleBook> articleBookFuture =
+                CompletableFuture.supplyAsync(() -> initArticleBook(storage), runnable -> {
+                    Thread thread = new Thread(runnable, "article-book-reader");
+                    thread.setDaemon(true);
+                    thread.start();
+                });
+        ReadOnlyAddressBook initialData = initAddressBook(storage);
+        ReadOnlyArticleBook initialArticleData = articleBookFuture.join();
+        logger.info("Read data files in " + getMillisSince(startTime) + " ms");
 
-        Optional<ReadOnlyArticleBook> articleBookOptional;
-        ReadOnlyArticleBook initialArticleData;
+        long linkStartTime = System.nanoTime();
+        Model initialModel = new ModelManager(initialData, initialArticleData, userPrefs);
+        logger.info("Linked articles to persons in " + getMillisSince(linkStartTime) + " ms");
+        return initialModel;
+    }
 
+    private ReadOnlyAddressBook initAddressBook(Storage storage) {
+        long startTime = System.nanoTime();
+        ReadOnlyAddressBook initialData;
         try {
-            addressBookOptional = storage.readAddressBook();
+            Optional<ReadOnlyAddressBook> addressBookOptional = storage.readAddressBook();
             if (!addressBookOptional.isPresent()) {
                 logger.info("Creating a new data file " + storage.getAddressBookFilePath()
                         + " populated with a sample AddressBook.");
             }
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+            isAddressBookFromStorage = addressBookOptional.isPresent();
         } catch (DataLoadingException e) {
             logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
                     + " Will be starting with an empty AddressBook.");
             initialData = new AddressBook();
         }
+        logger.info("Read address book in " + getMillisSince(startTime) + " ms");
+        return initialData;
+    }
 
+    /**
+     * Similar to {@link #initAddressBook(Storage)}, but for the article book. Runs in the background, so the
+     * result must only be used after the future running it completes.
+     */
+    private ReadOnlyArticleBook initArticleBook(Storage storage) {
+        long startTime = System.nanoTime();
+        ReadOnlyArticleBook initialArticleData;
         try {
-            articleBookOptional = storage.readArticleBook();
+            Optional<ReadOnlyArticleBook> articleBookOptional = storage.readArticleBook();
             if (!articleBookOptional.isPresent()) {
                 logger.info("Creating a new data file " + storage.getArticleBookFilePath()
                         + " populated with a sample ArticleBook.");
             }
             initialArticleData = articleBookOptional.orElseGet(SampleArticleDataUtil::getSampleArticleBook);
+            isArticleBookFromStorage = articleBookOptional.isPresent();
         } catch (DataLoadingException e) {
             logger.warning("Data file at " + storage.getArticleBookFilePath() + " could not be loaded."
                     + " Will be starting with an empty ArticleBook.");
             initialArticleData = new ArticleBook();
         }
+        logger.info("Read article book in " + getMillisSince(startTime) + " ms");
+        return initialArticleData;
+    }
 
-        return new ModelManager(initialData, initialArticleData, userPrefs);
+    private static long getMillisSince(long startNanoTime) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanoTime);
     }
 
     private void initLogging(Config config) {
@@ -201,6 +292,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        try {
+            saver.close();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,98 @@
+package seedu.address.commons.util;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set backed by an array exactly as long as the number of elements, for sets too small to be worth
+ * hashing. Membership is checked by comparing against every element.
+ * Every attempt to modify the set throws {@code UnsupportedOperationException}, whether or not it would change the set.
+ *
+ * @see CollectionUtil#toCompactSet(java.util.Collection)
+ */
+final class ArraySet<E> extends AbstractSet<E> {
+    static final ArraySet<?> EMPTY = new ArraySet<>(new Object[0]);
+
+    private final Object[] elements;
+
+    /**
+     * Creates an {@code ArraySet} of {@code elements}, which must be distinct and not null, and is not copied.
+     */
+    ArraySet(Object[] elements) {
+        this.elements = elements;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        for (Object element : elements) {
+            if (element.equals(o)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < elements.length;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (next >= elements.length) {
+                    throw new NoSuchElementException();
+                }
+                return (E) elements[next++];
+            }
+        };
+    }
+
+    @Override
+    public boolean add(E e) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,119 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable array list whose changes can be grouped into batches. The changes made between
+ * {@link #beginBatch()} and the matching {@link #endBatch()} reach the listeners as one change once the batch ends,
+ * so that lists derived from this one, such as filtered lists, only catch up once per batch.
+ * Batches may be nested, in which case the changes are only told when the outermost batch ends.
+ *
+ * Sorting is told as a single permutation, and replacing all the elements as a single replacement, rather than as
+ * one change per element.
+ */
+public class BatchedObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private final List<E> elements = new ArrayList<>();
+
+    /**
+     * Starts a batch: the changes made until the matching {@link #endBatch()} are held back from the listeners.
+     */
+    public void beginBatch() {
+        beginChange();
+    }
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}, and tells the listeners of its changes as one
+     * change if it is the outermost batch.
+     */
+    public void endBatch() {
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return elements.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return elements.remove(index);
+    }
+
+    @Override
+    public boolean setAll(Collection<? extends E> newElements) {
+        requireNonNull(newElements);
+        beginChange();
+        try {
+            if (!elements.isEmpty()) {
+                nextRemove(0, new ArrayList<>(elements));
+                elements.clear();
+            }
+            elements.addAll(newElements);
+            modCount++;
+            if (!elements.isEmpty()) {
+                nextAdd(0, elements.size());
+            }
+        } finally {
+            endChange();
+        }
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        setAll(List.of());
+    }
+
+    @Override
+    public void sort(Comparator<? super E> comparator) {
+        requireNonNull(comparator);
+        if (elements.isEmpty()) {
+            return;
+        }
+        Integer[] oldIndexes = new Integer[elements.size()];
+        Arrays.setAll(oldIndexes, i -> i);
+        Arrays.sort(oldIndexes, (i, j) -> comparator.compare(elements.get(i), elements.get(j)));
+
+        // The new index of the element at each old index.
+        int[] permutation = new int[oldIndexes.length];
+        List<E> sorted = new ArrayList<>(oldIndexes.length);
+        for (int newIndex = 0; newIndex < oldIndexes.length; newIndex++) {
+            permutation[oldIndexes[newIndex]] = newIndex;
+            sorted.add(elements.get(oldIndexes[newIndex]));
+        }
+
+        beginChange();
+        try {
+            elements.clear();
+            elements.addAll(sorted);
+            modCount++;
+            nextPermutation(0, permutation.length, permutation);
+        } finally {
+            endChange();
+        }
+    }
+}
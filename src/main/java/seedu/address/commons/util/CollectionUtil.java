@@ -4,13 +4,18 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Stream;
 
 /**
  * Utility methods related to Collections
  */
 public class CollectionUtil {
+    // Sets any larger are hashed, as checking every element would get slower than hashing.
+    private static final int MAX_ARRAY_SET_SIZE = 8;
 
     /** @see #requireAllNonNull(Collection) */
     public static void requireAllNonNull(Object... items) {
@@ -32,4 +37,25 @@ public class CollectionUtil {
     public static boolean isAnyNonNull(Object... items) {
         return items != null && Arrays.stream(items).anyMatch(Objects::nonNull);
     }
+
+    /**
+     * Returns an immutable set of the distinct elements of {@code items}, in the order they are first found.
+     * Small sets take as little memory as their size allows: no memory when empty, and a plain array otherwise.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> Set<E> toCompactSet(Collection<? extends E> items) {
+        requireAllNonNull(items);
+        if (items instanceof ArraySet) {
+            // Already immutable, so it can be shared.
+            return (Set<E>) items;
+        }
+        Object[] elements = items instanceof Set ? items.toArray() : new LinkedHashSet<>(items).toArray();
+        if (elements.length == 0) {
+            return (Set<E>) ArraySet.EMPTY;
+        }
+        if (elements.length <= MAX_ARRAY_SET_SIZE) {
+            return new ArraySet<>(elements);
+        }
+        return Collections.unmodifiableSet(new LinkedHashSet<>(items));
+    }
 }
@@ -1,16 +1,23 @@
 package seedu.address.commons.util;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    public static final String BACKUP_FILE_SUFFIX = ".bak";
+
     private static final String CHARSET = "UTF-8";
 
     public static boolean isFileExists(Path file) {
@@ -73,11 +80,109 @@ public class FileUtil {
     }
 
     /**
-     * Writes given string to a file.
+     * Writes given string to a file, replacing it atomically as in
+     * {@link #writeAtomically(Path, ContentWriter, SyncPolicy, boolean)}.
      * Will create the file if it does not exist yet.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeAtomically(file, out -> out.write(content.getBytes(CHARSET)), SyncPolicy.FILE, false);
+    }
+
+    /**
+     * Returns the path of the file that holds the previous version of {@code file}.
+     */
+    public static Path getBackupPath(Path file) {
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_SUFFIX);
+    }
+
+    /**
+     * Writes to a temporary file in the same folder as {@code file}, which then replaces {@code file} in a single
+     * atomic rename where the file system supports it. A crash while writing leaves {@code file} as it was.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     *
+     * @param syncPolicy how much of the write must reach the disk before this method returns.
+     * @param isBackedUp if true, the previous version of {@code file} is kept at {@link #getBackupPath(Path)}.
+     * @throws IOException if the file could not be written. {@code file} is left unchanged in that case.
+     */
+    public static void writeAtomically(Path file, ContentWriter contentWriter, SyncPolicy syncPolicy,
+            boolean isBackedUp) throws IOException {
+        Path folder = file.toAbsolutePath().getParent();
+        Files.createDirectories(folder);
+        Path tempFile = Files.createTempFile(folder, file.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(tempFile)) {
+                contentWriter.writeTo(out);
+            }
+            if (syncPolicy != SyncPolicy.NONE) {
+                try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                    channel.force(true);
+                }
+            }
+            if (isBackedUp && Files.exists(file)) {
+                backUp(file);
+            }
+            try {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            if (syncPolicy == SyncPolicy.FILE_AND_FOLDER) {
+                syncFolder(folder);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Atomically replaces {@code file} with its previous version, kept at {@link #getBackupPath(Path)}.
+     * The backup itself is left in place.
+     */
+    public static void restoreFromBackup(Path file, SyncPolicy syncPolicy) throws IOException {
+        Path backupFile = getBackupPath(file);
+        writeAtomically(file, out -> Files.copy(backupFile, out), syncPolicy, false);
+    }
+
+    /**
+     * Makes the backup file of {@code file} hold its current version, without ever leaving {@code file} missing.
+     */
+    private static void backUp(Path file) throws IOException {
+        Path backupFile = getBackupPath(file);
+        Files.deleteIfExists(backupFile);
+        try {
+            Files.createLink(backupFile, file);
+        } catch (UnsupportedOperationException | IOException e) {
+            // Not every file system supports hard links.
+            Files.copy(file, backupFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void syncFolder(Path folder) {
+        try (FileChannel channel = FileChannel.open(folder, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Some platforms, such as Windows, cannot open folders; their renames are durable once made.
+        }
+    }
+
+    /**
+     * Writes the content of a file.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * How much of a write must reach the disk before the write is considered done.
+     */
+    public enum SyncPolicy {
+        /** Leaves flushing the file to the operating system. Fastest, but a power loss can lose recent saves. */
+        NONE,
+        /** Forces the file contents to the disk before it replaces the old file. */
+        FILE,
+        /** Also forces the folder, so that the replacement itself survives a power loss. */
+        FILE_AND_FOLDER
     }
 
 }
@@ -0,0 +1,37 @@
+package seedu.address.commons.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands out positive numeric IDs that are unique among those it has handed out or been told about.
+ * IDs read back from storage are reserved with {@link #reserve(long)}, so that new IDs never clash with them.
+ */
+public class IdGenerator {
+    private final AtomicLong lastId = new AtomicLong();
+
+    /**
+     * Returns an ID greater than every ID handed out or reserved so far.
+     */
+    public long next() {
+        return lastId.incrementAndGet();
+    }
+
+    /**
+     * Makes sure {@code id} is never handed out by {@link #next()}.
+     *
+     * @throws IllegalArgumentException if {@code id} is not positive.
+     */
+    public void reserve(long id) {
+        if (!isValidId(id)) {
+            throw new IllegalArgumentException("IDs must be positive, but got " + id);
+        }
+        lastId.accumulateAndGet(id, Math::max);
+    }
+
+    /**
+     * Returns true if {@code id} could have been handed out by an {@code IdGenerator}.
+     */
+    public static boolean isValidId(long id) {
+        return id > 0;
+    }
+}
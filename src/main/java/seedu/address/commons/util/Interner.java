@@ -0,0 +1,87 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Keeps one canonical instance of each distinct value, so that equal values share a single object instead of each
+ * user of a value holding its own copy, which suits values such as names that are few compared to the number of
+ * times they are used.
+ * Values are looked up by the key they are created from. They are only held weakly: a value that is no longer used
+ * anywhere else is dropped, and created afresh if its key is interned again, so that an interner held for the whole
+ * run of the app only holds the values still in use.
+ *
+ * @param <K> the type of the keys values are created from.
+ * @param <V> the type of the values.
+ */
+public class Interner<K, V> {
+    private final Map<K, ValueReference<K, V>> canonicalValues = new ConcurrentHashMap<>();
+    private final ReferenceQueue<V> droppedValues = new ReferenceQueue<>();
+    private final Function<? super K, ? extends V> valueFactory;
+
+    /**
+     * Creates an {@code Interner} that creates the value for a key it has not seen with {@code valueFactory}.
+     */
+    public Interner(Function<? super K, ? extends V> valueFactory) {
+        requireNonNull(valueFactory);
+        this.valueFactory = valueFactory;
+    }
+
+    /**
+     * Returns the canonical value for {@code key}, creating it if there is none yet.
+     * Exceptions thrown while creating the value are passed on, and leave no value for {@code key}.
+     */
+    public V intern(K key) {
+        requireNonNull(key);
+        removeDroppedValues();
+        while (true) {
+            ValueReference<K, V> reference = canonicalValues.get(key);
+            V value = reference == null ? null : reference.get();
+            if (value != null) {
+                return value;
+            }
+            V createdValue = requireNonNull(valueFactory.apply(key));
+            ValueReference<K, V> createdReference = new ValueReference<>(key, createdValue, droppedValues);
+            // Another thread may have interned the key meanwhile, in which case its value is the canonical one.
+            boolean isKept = reference == null
+                    ? canonicalValues.putIfAbsent(key, createdReference) == null
+                    : canonicalValues.replace(key, reference, createdReference);
+            if (isKept) {
+                return createdValue;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of canonical values, which may still count values that have just been dropped.
+     */
+    public int size() {
+        removeDroppedValues();
+        return canonicalValues.size();
+    }
+
+    private void removeDroppedValues() {
+        Object dropped;
+        while ((dropped = droppedValues.poll()) != null) {
+            ValueReference<?, ?> reference = (ValueReference<?, ?>) dropped;
+            canonicalValues.remove(reference.key, reference);
+        }
+    }
+
+    /**
+     * A weak reference to a canonical value, which remembers its key so that it can be removed once dropped.
+     */
+    private static class ValueReference<K, V> extends WeakReference<V> {
+        private final K key;
+
+        ValueReference(K key, V value, ReferenceQueue<V> queue) {
+            super(value, queue);
+            this.key = key;
+        }
+    }
+}
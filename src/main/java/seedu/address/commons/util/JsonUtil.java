@@ -1,20 +1,30 @@
 package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -22,6 +32,7 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -45,7 +56,7 @@ public class JsonUtil {
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        return objectMapper.readValue(jsonFile.toFile(), classOfObjectToDeserialize);
     }
 
     /**
@@ -91,6 +102,70 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Reads the elements of the array field {@code arrayFieldName} of the JSON object in the given file one at a
+     * time, and hands each to {@code elementHandler} as soon as it is read.
+     * Neither the file contents nor the whole array are ever held in memory at once.
+     * Other fields of the object are skipped, and a missing or null array is treated as empty.
+     *
+     * @param filePath cannot be null.
+     * @param elementClass each array element has to correspond to the structure in the class given here.
+     * @throws IOException if the file could not be read or is not a JSON object of the expected structure.
+     * @throws IllegalValueException if {@code elementHandler} rejects an element.
+     */
+    public static <T> void readJsonArrayFile(Path filePath, String arrayFieldName, Class<T> elementClass,
+            ArrayElementHandler<T> elementHandler) throws IOException, IllegalValueException {
+        requireAllNonNull(filePath, arrayFieldName, elementClass, elementHandler);
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(filePath.toFile())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (!fieldName.equals(arrayFieldName) || valueToken == JsonToken.VALUE_NULL) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (valueToken != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected field " + arrayFieldName + " to be an array");
+                }
+                ObjectReader elementReader = objectMapper.readerFor(elementClass);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    elementHandler.handle(elementReader.readValue(parser));
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the given elements to {@code out} as the array field {@code arrayFieldName} of a JSON object,
+     * converting each element with {@code toJsonAdapted} just before it is written.
+     * The output is written as it is generated, so neither the JSON text nor a full list of converted elements is
+     * ever held in memory.
+     *
+     * @param isCompact if true, the JSON is written without line breaks or indentation.
+     * @throws IOException if there was an error during writing to {@code out}.
+     */
+    public static <T> void writeJsonArray(OutputStream out, String arrayFieldName, Iterable<T> elements,
+            Function<? super T, ?> toJsonAdapted, boolean isCompact) throws IOException {
+        requireAllNonNull(out, arrayFieldName, elements, toJsonAdapted);
+
+        ObjectWriter elementWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            if (!isCompact) {
+                generator.useDefaultPrettyPrinter();
+            }
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(arrayFieldName);
+            for (T element : elements) {
+                elementWriter.writeValue(generator, toJsonAdapted.apply(element));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -111,6 +186,24 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, on a single line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string without line breaks
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Handles an element read by {@link #readJsonArrayFile(Path, String, Class, ArrayElementHandler)}.
+     */
+    @FunctionalInterface
+    public interface ArrayElementHandler<T> {
+        void handle(T element) throws IllegalValueException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -0,0 +1,180 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * A view of one page of a source list: the elements from {@link #getFirstIndex()}, up to the page size.
+ * With a page size of 0 the list is not paged, and the view is the whole source list, with the changes to the source
+ * list passed on as they are.
+ *
+ * Only the current page is copied, so a page of a large list costs no more than the page itself. Any change to the
+ * source list, or move to another page, is told as the replacement of the whole page.
+ */
+public class PagedList<E> extends ObservableListBase<E> {
+    public static final String MESSAGE_INVALID_PAGE_SIZE = "The page size must not be negative";
+
+    private final ObservableList<E> source;
+    private int pageSize;
+    private int pageIndex;
+    // The current page, copied from the source list. Empty while the list is not paged.
+    private List<E> page;
+
+    /**
+     * Creates a {@code PagedList} showing the first page of {@code source}, with pages of {@code pageSize} elements,
+     * or the whole of {@code source} if {@code pageSize} is 0.
+     */
+    public PagedList(ObservableList<E> source, int pageSize) {
+        requireNonNull(source);
+        checkArgument(pageSize >= 0, MESSAGE_INVALID_PAGE_SIZE);
+        this.source = source;
+        this.pageSize = pageSize;
+        page = copyPage();
+        source.addListener(this::sourceChanged);
+    }
+
+    /**
+     * Returns the number of elements on each page, or 0 if the list is not paged.
+     */
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Sets the number of elements on each page, or turns paging off if {@code pageSize} is 0.
+     * The page shown is the one holding the first element shown so far.
+     */
+    public void setPageSize(int pageSize) {
+        checkArgument(pageSize >= 0, MESSAGE_INVALID_PAGE_SIZE);
+        int firstIndex = getFirstIndex();
+        List<E> oldElements = new ArrayList<>(this);
+        this.pageSize = pageSize;
+        pageIndex = pageSize == 0 ? 0 : firstIndex / pageSize;
+        page = copyPage();
+        replaceAll(oldElements);
+    }
+
+    /**
+     * Returns the zero-based index of the page shown.
+     */
+    public int getPageIndex() {
+        return pageIndex;
+    }
+
+    /**
+     * Shows the page with the zero-based index {@code pageIndex}.
+     *
+     * @throws IndexOutOfBoundsException if there is no such page.
+     */
+    public void setPageIndex(int pageIndex) {
+        if (pageIndex < 0 || pageIndex >= getPageCount()) {
+            throw new IndexOutOfBoundsException("No page " + pageIndex + " among " + getPageCount() + " pages");
+        }
+        if (pageIndex == this.pageIndex) {
+            return;
+        }
+        List<E> oldPage = page;
+        this.pageIndex = pageIndex;
+        page = copyPage();
+        replaceAll(oldPage);
+    }
+
+    /**
+     * Returns the number of pages, which is at least 1 even if the source list is empty.
+     */
+    public int getPageCount() {
+        if (pageSize == 0) {
+            return 1;
+        }
+        return Math.max(1, (source.size() + pageSize - 1) / pageSize);
+    }
+
+    /**
+     * Returns the index in the source list of the first element of the page shown.
+     */
+    public int getFirstIndex() {
+        return pageIndex * pageSize;
+    }
+
+    @Override
+    public E get(int index) {
+        return pageSize == 0 ? source.get(index) : page.get(index);
+    }
+
+    @Override
+    public int size() {
+        return pageSize == 0 ? source.size() : page.size();
+    }
+
+    private void sourceChanged(ListChangeListener.Change<? extends E> change) {
+        if (pageSize != 0) {
+            // Stays on the same page, unless the source list has shrunk to fewer pages.
+            pageIndex = Math.min(pageIndex, getPageCount() - 1);
+            List<E> oldPage = page;
+            page = copyPage();
+            replaceAll(oldPage);
+            return;
+        }
+
+        beginChange();
+        try {
+            while (change.next()) {
+                int from = change.getFrom();
+                int to = change.getTo();
+                if (change.wasPermutated()) {
+                    int[] permutation = new int[to - from];
+                    for (int i = from; i < to; i++) {
+                        permutation[i - from] = change.getPermutation(i);
+                    }
+                    nextPermutation(from, to, permutation);
+                } else if (change.wasUpdated()) {
+                    for (int i = from; i < to; i++) {
+                        nextUpdate(i);
+                    }
+                } else {
+                    if (change.wasRemoved()) {
+                        nextRemove(from, change.getRemoved());
+                    }
+                    if (change.wasAdded()) {
+                        nextAdd(from, to);
+                    }
+                }
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    private List<E> copyPage() {
+        if (pageSize == 0) {
+            return List.of();
+        }
+        int from = Math.min(getFirstIndex(), source.size());
+        int to = Math.min(from + pageSize, source.size());
+        return new ArrayList<>(source.subList(from, to));
+    }
+
+    /**
+     * Tells the listeners that {@code oldElements} have all been replaced by the current elements.
+     */
+    private void replaceAll(List<E> oldElements) {
+        beginChange();
+        try {
+            if (!oldElements.isEmpty()) {
+                nextRemove(0, oldElements);
+            }
+            if (size() != 0) {
+                nextAdd(0, size());
+            }
+        } finally {
+            endChange();
+        }
+    }
+}
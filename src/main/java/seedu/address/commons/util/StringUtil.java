@@ -38,6 +38,32 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns {@code s} with leading and trailing whitespace dropped, runs of whitespace collapsed to a single space
+     * and every character case-folded, so that two strings have equal keys exactly when they are equal, ignoring
+     * case as {@link String#equalsIgnoreCase} does, and whitespace.
+     *   <br>examples:<pre>
+     *       toCaseFoldedKey("  ABc   dEF ") == "abc def"
+     *       </pre>
+     * @param s cannot be null
+     */
+    public static String toCaseFoldedKey(String s) {
+        requireNonNull(s);
+        StringBuilder key = new StringBuilder(s.length());
+        for (String word : s.split("\\s+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            if (key.length() > 0) {
+                key.append(' ');
+            }
+            for (int i = 0; i < word.length(); i++) {
+                key.append(Character.toLowerCase(Character.toUpperCase(word.charAt(i))));
+            }
+        }
+        return key.toString();
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -38,6 +38,18 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of articles */
     ObservableList<Article> getFilteredArticleList();
 
+    /**
+     * Returns an unmodifiable view of the page of the filtered list of articles that is shown.
+     *
+     * @see seedu.address.model.Model#getPagedArticleList()
+     */
+    ObservableList<Article> getPagedArticleList();
+
+    /**
+     * Returns the index in the filtered list of articles of the first article of the page shown.
+     */
+    int getFirstPagedArticleIndex();
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -3,6 +3,7 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -18,6 +19,7 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.article.Article;
 import seedu.address.model.person.Person;
 import seedu.address.storage.Storage;
+import seedu.address.storage.WriteBehindSaver;
 
 /**
  * The main LogicManager of the app.
@@ -32,14 +34,26 @@ public class LogicManager implements Logic {
 
     private final Model model;
     private final Storage storage;
+    private final WriteBehindSaver saver;
     private final AddressBookParser addressBookParser;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Data is saved to {@code storage} before each command returns.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * If {@code saver} is not null, data is handed to it to be saved in the background instead, and errors from
+     * earlier background saves are reported in the result of the next command.
+     */
+    public LogicManager(Model model, Storage storage, WriteBehindSaver saver) {
         this.model = model;
         this.storage = storage;
+        this.saver = saver;
         addressBookParser = new AddressBookParser();
     }
 
@@ -49,24 +63,68 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
+        long addressBookModificationCount = model.getAddressBookModificationCount();
+        long articleBookModificationCount = model.getArticleBookModificationCount();
         commandResult = command.execute(model);
 
+        // Only save the books the command actually modified; most commands are queries.
+        boolean isAddressBookModified = model.getAddressBookModificationCount() != addressBookModificationCount;
+        boolean isArticleBookModified = model.getArticleBookModificationCount() != articleBookModificationCount;
+
+        if (saver != null) {
+            return saveLater(isAddressBookModified, isArticleBookModified, commandResult);
+        }
+
         try {
-            if (command.getCommandType().equals("personCommand")) {
+            if (isAddressBookModified) {
                 storage.saveAddressBook(model.getAddressBook());
-            } else if (command.getCommandType().equals("articleCommand")) {
+            }
+            if (isArticleBookModified) {
                 storage.saveArticleBook(model.getArticleBook());
             }
-
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
         }
 
         return commandResult;
     }
 
+    /**
+     * Hands the modified books to the background saver, and appends the error from any earlier background save
+     * that failed to {@code commandResult}.
+     * A journaled article book is saved right away instead, since its changes have already been written.
+     */
+    private CommandResult saveLater(boolean isAddressBookModified, boolean isArticleBookModified,
+            CommandResult commandResult) throws CommandException {
+        if (isAddressBookModified) {
+            saver.saveAddressBookLater(model.getAddressBook());
+        }
+        if (isArticleBookModified && storage.isJournaling()) {
+            // The journal already holds the changes, and must be told right away if they could not be appended.
+            try {
+                storage.saveArticleBook(model.getArticleBook());
+            } catch (IOException ioe) {
+                throw new CommandException(getSaveErrorMessage(ioe), ioe);
+            }
+        } else if (isArticleBookModified) {
+            saver.saveArticleBookLater(model.getArticleBook());
+        }
+
+        Optional<IOException> saveError = saver.takeError();
+        if (saveError.isEmpty()) {
+            return commandResult;
+        }
+        return new CommandResult(commandResult.getFeedbackToUser() + "\n" + getSaveErrorMessage(saveError.get()),
+                commandResult.isShowHelp(), commandResult.isExit());
+    }
+
+    private static String getSaveErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
     @Override
     public String getCommandType(String commandText) throws ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
@@ -89,6 +147,16 @@ public class LogicManager implements Logic {
         return model.getFilteredArticleList();
     }
 
+    @Override
+    public ObservableList<Article> getPagedArticleList() {
+        return model.getPagedArticleList();
+    }
+
+    @Override
+    public int getFirstPagedArticleIndex() {
+        return model.getPagedArticleList().getFirstIndex();
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
@@ -125,7 +125,7 @@ public class EditArticleCommand extends ArticleCommand {
         Status status = editArticleDescriptor.getStatus().orElse(articleToEdit.getStatus());
         Link link = editArticleDescriptor.getLink().orElse(articleToEdit.getLink());
 
-        Article editedArticle = new Article(title, authors, sources, tags,
+        Article editedArticle = new Article(articleToEdit.getId(), title, authors, sources, tags,
                 outlets, publicationDate, status, link); // Include all article attributes here.
         return editedArticle;
     }
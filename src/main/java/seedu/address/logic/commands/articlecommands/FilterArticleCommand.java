@@ -3,12 +3,15 @@ package seedu.address.logic.commands.articlecommands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_ARTICLES;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Predicate;
 
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.article.Article;
+import seedu.address.model.article.ArticleMatchesAllPredicate;
 import seedu.address.model.article.ArticleMatchesStatusPredicate;
 import seedu.address.model.article.ArticleMatchesTagPredicate;
 import seedu.address.model.article.ArticleMatchesTimePeriodPredicate;
@@ -35,21 +38,22 @@ public class FilterArticleCommand extends ArticleCommand {
      */
     public FilterArticleCommand(String status, Tag tag, PublicationDate start,
                                 PublicationDate end) throws ParseException {
+        List<Predicate<Article>> predicates = new ArrayList<>();
         try {
-            finalPredicate = new ArticleMatchesStatusPredicate(status);
+            predicates.add(new ArticleMatchesStatusPredicate(status));
         } catch (InvalidStatusException e) {
-            finalPredicate = PREDICATE_SHOW_ALL_ARTICLES;
+            predicates.add(PREDICATE_SHOW_ALL_ARTICLES);
         }
         try {
-            Predicate<Article> timePredicate = new ArticleMatchesTimePeriodPredicate(start, end);
-            finalPredicate = finalPredicate.and(timePredicate);
+            predicates.add(new ArticleMatchesTimePeriodPredicate(start, end));
         } catch (InvalidDatesException e) {
             throw new ParseException(e.getMessage());
         }
         if (tag instanceof Tag) {
-            Predicate<Article> tagPredicate = new ArticleMatchesTagPredicate(tag);
-            finalPredicate = finalPredicate.and(tagPredicate);
+            predicates.add(new ArticleMatchesTagPredicate(tag));
         }
+        // Keep the parts separate so that the model can answer each from its indexes.
+        finalPredicate = new ArticleMatchesAllPredicate(predicates);
     }
 
     @Override
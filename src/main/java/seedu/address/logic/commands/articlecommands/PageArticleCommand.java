@@ -0,0 +1,146 @@
+package seedu.address.logic.commands.articlecommands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.PagedList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.article.Article;
+
+/**
+ * Moves between the pages of the displayed article list, or sets how many articles each page holds.
+ * Articles keep the indexes they have in the whole list, whichever page they are on.
+ */
+public class PageArticleCommand extends ArticleCommand {
+
+    public static final String COMMAND_WORD = "page";
+
+    public static final String COMMAND_PREFIX = "-a";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + " " + COMMAND_PREFIX
+            + ": Shows the next, previous or given page of the displayed article list, "
+            + "or sets how many articles each page holds (0 shows all articles on one page).\n"
+            + "Parameters: next | prev | PAGE (must be a positive integer) | size SIZE (must not be negative)\n"
+            + "Example: " + COMMAND_WORD + " " + COMMAND_PREFIX + " size 50";
+
+    public static final String MESSAGE_SUCCESS = "Showing articles %1$d to %2$d of %3$d (page %4$d of %5$d)";
+    public static final String MESSAGE_ALL_SHOWN = "Showing all %1$d articles on one page";
+    public static final String MESSAGE_NOT_PAGED = "The article list is not paged. Set a page size first, e.g. "
+            + COMMAND_WORD + " " + COMMAND_PREFIX + " size 50";
+    public static final String MESSAGE_INVALID_PAGE = "The page provided is invalid: there are %1$d pages";
+
+    /**
+     * What a {@code PageArticleCommand} does.
+     */
+    private enum Action {
+        NEXT, PREVIOUS, GO_TO, SET_SIZE
+    }
+
+    private final Action action;
+    // The zero-based index of the page to go to, or the page size to set.
+    private final int value;
+
+    private PageArticleCommand(Action action, int value) {
+        this.action = action;
+        this.value = value;
+    }
+
+    /**
+     * Creates a PageArticleCommand to show the next page.
+     */
+    public static PageArticleCommand toNextPage() {
+        return new PageArticleCommand(Action.NEXT, 0);
+    }
+
+    /**
+     * Creates a PageArticleCommand to show the previous page.
+     */
+    public static PageArticleCommand toPreviousPage() {
+        return new PageArticleCommand(Action.PREVIOUS, 0);
+    }
+
+    /**
+     * Creates a PageArticleCommand to show the page with the zero-based index {@code pageIndex}.
+     */
+    public static PageArticleCommand toPage(int pageIndex) {
+        return new PageArticleCommand(Action.GO_TO, pageIndex);
+    }
+
+    /**
+     * Creates a PageArticleCommand to set the number of articles on each page to {@code pageSize}.
+     */
+    public static PageArticleCommand withPageSize(int pageSize) {
+        return new PageArticleCommand(Action.SET_SIZE, pageSize);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (action == Action.SET_SIZE) {
+            model.setArticlePageSize(value);
+            return new CommandResult(getPageShownMessage(model));
+        }
+        PagedList<Article> pagedArticles = model.getPagedArticleList();
+        if (pagedArticles.getPageSize() == 0) {
+            throw new CommandException(MESSAGE_NOT_PAGED);
+        }
+
+        int pageIndex;
+        switch (action) {
+        case NEXT:
+            pageIndex = pagedArticles.getPageIndex() + 1;
+            break;
+        case PREVIOUS:
+            pageIndex = pagedArticles.getPageIndex() - 1;
+            break;
+        default:
+            pageIndex = value;
+            break;
+        }
+        if (pageIndex < 0 || pageIndex >= pagedArticles.getPageCount()) {
+            throw new CommandException(String.format(MESSAGE_INVALID_PAGE, pagedArticles.getPageCount()));
+        }
+
+        pagedArticles.setPageIndex(pageIndex);
+        return new CommandResult(getPageShownMessage(model));
+    }
+
+    private static String getPageShownMessage(Model model) {
+        int articleCount = model.getFilteredArticleList().size();
+        PagedList<Article> pagedArticles = model.getPagedArticleList();
+        if (pagedArticles.getPageSize() == 0) {
+            return String.format(MESSAGE_ALL_SHOWN, articleCount);
+        }
+        int firstIndex = pagedArticles.getFirstIndex();
+        return String.format(MESSAGE_SUCCESS, Math.min(firstIndex + 1, articleCount),
+                firstIndex + pagedArticles.size(), articleCount, pagedArticles.getPageIndex() + 1,
+                pagedArticles.getPageCount());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PageArticleCommand)) {
+            return false;
+        }
+
+        PageArticleCommand otherPageArticleCommand = (PageArticleCommand) other;
+        return action == otherPageArticleCommand.action
+                && value == otherPageArticleCommand.value;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("action", action)
+                .add("value", value)
+                .toString();
+    }
+}
@@ -17,6 +17,7 @@ import seedu.address.logic.commands.articlecommands.FilterArticleCommand;
 import seedu.address.logic.commands.articlecommands.FindArticleCommand;
 import seedu.address.logic.commands.articlecommands.ListArticleCommand;
 import seedu.address.logic.commands.articlecommands.LookupArticleCommand;
+import seedu.address.logic.commands.articlecommands.PageArticleCommand;
 import seedu.address.logic.commands.articlecommands.RemoveArticleFilterCommand;
 import seedu.address.logic.commands.articlecommands.SortArticleCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -83,6 +84,9 @@ public class ArticleBookParser {
         case LookupArticleCommand.COMMAND_WORD:
             return new LookupArticleCommandParser().parse(arguments);
 
+        case PageArticleCommand.COMMAND_WORD:
+            return new PageArticleCommandParser().parse(arguments);
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
@@ -0,0 +1,49 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.articlecommands.PageArticleCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new PageArticleCommand object
+ */
+public class PageArticleCommandParser implements Parser<PageArticleCommand> {
+
+    public static final String NEXT_PAGE = "next";
+    public static final String PREVIOUS_PAGE = "prev";
+    public static final String PAGE_SIZE = "size";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the PageArticleCommand
+     * and returns a PageArticleCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public PageArticleCommand parse(String args) throws ParseException {
+        String[] words = args.trim().split("\\s+");
+        try {
+            if (words.length == 1 && words[0].equalsIgnoreCase(NEXT_PAGE)) {
+                return PageArticleCommand.toNextPage();
+            } else if (words.length == 1 && words[0].equalsIgnoreCase(PREVIOUS_PAGE)) {
+                return PageArticleCommand.toPreviousPage();
+            } else if (words.length == 1) {
+                Index page = ParserUtil.parseIndex(words[0]);
+                return PageArticleCommand.toPage(page.getZeroBased());
+            } else if (words.length == 2 && words[0].equalsIgnoreCase(PAGE_SIZE)) {
+                return PageArticleCommand.withPageSize(parsePageSize(words[1]));
+            }
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, PageArticleCommand.MESSAGE_USAGE), pe);
+        }
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, PageArticleCommand.MESSAGE_USAGE));
+    }
+
+    private static int parsePageSize(String pageSize) throws ParseException {
+        if (pageSize.equals("0")) {
+            return 0;
+        }
+        return ParserUtil.parseIndex(pageSize).getOneBased();
+    }
+}
@@ -123,7 +123,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -159,7 +159,7 @@ public class ParserUtil {
         if (!Author.isValidAuthorName(trimmedAuthor)) {
             throw new ParseException(Author.MESSAGE_CONSTRAINTS);
         }
-        return new Author(trimmedAuthor);
+        return Author.of(trimmedAuthor);
     }
 
     /**
@@ -215,7 +215,7 @@ public class ParserUtil {
         if (!Source.isValidSourceName(trimmedSource)) {
             throw new ParseException(Source.MESSAGE_CONSTRAINTS);
         }
-        return new Source(trimmedSource);
+        return Source.of(trimmedSource);
     }
 
     /**
@@ -239,7 +239,7 @@ public class ParserUtil {
         if (!Outlet.isValidOutletName(trimmedOutlet)) {
             throw new ParseException(Outlet.MESSAGE_CONSTRAINTS);
         }
-        return new Outlet(trimmedOutlet);
+        return Outlet.of(trimmedOutlet);
     }
 
     /**
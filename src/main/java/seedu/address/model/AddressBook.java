@@ -3,6 +3,7 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
@@ -67,6 +68,20 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the person whose full name is exactly {@code fullName}, if any.
+     */
+    public Optional<Person> findPersonByFullName(String fullName) {
+        return persons.findByFullName(fullName);
+    }
+
+    /**
+     * Returns the person with the given {@code id}, if any.
+     */
+    public Optional<Person> findPersonById(long id) {
+        return persons.findById(id);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
@@ -101,6 +116,22 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.sortPersons(prefix);
     }
 
+    /**
+     * Starts a batch of changes: the person list holds back the changes made until the matching
+     * {@link #endBatch()}, and then tells its listeners of them as one change, so that the filtered list and the
+     * person list panel only catch up once. Batches may be nested.
+     */
+    public void beginBatch() {
+        persons.beginBatch();
+    }
+
+    /**
+     * Ends the batch of changes started by the matching {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        persons.endBatch();
+    }
+
     //// util methods
 
     @Override
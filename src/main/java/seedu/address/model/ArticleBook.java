@@ -2,11 +2,15 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.article.Article;
+import seedu.address.model.article.ArticleIndex;
 import seedu.address.model.article.UniqueArticleList;
 import seedu.address.model.person.Person;
 
@@ -17,9 +21,13 @@ import seedu.address.model.person.Person;
 public class ArticleBook implements ReadOnlyArticleBook {
 
     private final UniqueArticleList articles;
+    private final ArticleIndex index;
+    private final List<ArticleBookListener> listeners;
 
     {
         articles = new UniqueArticleList();
+        index = new ArticleIndex();
+        listeners = new ArrayList<>();
     }
 
     public ArticleBook() {}
@@ -39,7 +47,14 @@ public class ArticleBook implements ReadOnlyArticleBook {
      * {@code articles} must not contain duplicate article.
      */
     public void setArticles(List<Article> articles) {
+        // The index is updated first, as the article list tells the filtered list of its changes straight away,
+        // and the filtered list may ask the index whether the new articles match.
+        index.clear();
+        for (Article article : articles) {
+            index.add(article);
+        }
         this.articles.setArticles(articles);
+        listeners.forEach(listener -> listener.articlesReset(articles));
     }
 
     /**
@@ -61,12 +76,21 @@ public class ArticleBook implements ReadOnlyArticleBook {
         return articles.contains(article);
     }
 
+    /**
+     * Returns the article with the given {@code id}, if any.
+     */
+    public Optional<Article> findArticleById(long id) {
+        return articles.findById(id);
+    }
+
     /**
      * Adds an article to the article book.
      * The article must not already exist in the article book.
      */
     public void addArticle(Article article) {
+        index.add(article);
         articles.add(article);
+        listeners.forEach(listener -> listener.articleAdded(article));
     }
 
     /**
@@ -78,7 +102,13 @@ public class ArticleBook implements ReadOnlyArticleBook {
     public void setArticle(Article target, Article editedArticle) {
         requireNonNull(editedArticle);
 
+        int targetIndex = articles.indexOf(target);
+        // The article stored may be an equal copy of target, or editedArticle itself, so it is the one taken out of
+        // the index, before editedArticle is put in.
+        index.remove(articles.asUnmodifiableObservableList().get(targetIndex));
+        index.add(editedArticle);
         articles.setArticle(target, editedArticle);
+        listeners.forEach(listener -> listener.articleSet(targetIndex, editedArticle));
     }
 
     /**
@@ -86,7 +116,11 @@ public class ArticleBook implements ReadOnlyArticleBook {
      * {@code key} must exist in the Article book.
      */
     public void removeArticle(Article key) {
+        int keyIndex = articles.indexOf(key);
+        Article removed = articles.asUnmodifiableObservableList().get(keyIndex);
         articles.remove(key);
+        index.remove(removed);
+        listeners.forEach(listener -> listener.articleRemoved(keyIndex));
     }
 
     /**
@@ -94,6 +128,42 @@ public class ArticleBook implements ReadOnlyArticleBook {
      */
     public void sortArticleBook(String prefix) {
         articles.sortArticles(prefix);
+        listeners.forEach(listener -> listener.articlesSorted(prefix));
+    }
+
+    /**
+     * Starts a batch of changes: the article list holds back the changes made until the matching
+     * {@link #endBatch()}, and then tells its listeners of them as one change, so that the filtered list and the
+     * article list panel only catch up once. Batches may be nested.
+     * The {@code ArticleBookListener}s are still told of each change as it is made.
+     */
+    public void beginBatch() {
+        articles.beginBatch();
+    }
+
+    /**
+     * Ends the batch of changes started by the matching {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        articles.endBatch();
+    }
+
+    /**
+     * Returns a predicate that matches the same articles of this article book as {@code predicate}, answering
+     * title keyword, publication date range, status and tag checks from indexes kept in sync with this article book.
+     *
+     * @see ArticleIndex#toIndexedPredicate(Predicate)
+     */
+    public Predicate<Article> toIndexedPredicate(Predicate<Article> predicate) {
+        return index.toIndexedPredicate(predicate);
+    }
+
+    /**
+     * Registers {@code listener} to be told of every later change to this article book.
+     */
+    public void addListener(ArticleBookListener listener) {
+        requireNonNull(listener);
+        listeners.add(listener);
     }
 
     //// util methods
@@ -111,24 +181,17 @@ public class ArticleBook implements ReadOnlyArticleBook {
     }
 
     /**
-     * Makes links between articles and persons in the address book.
+     * Renames {@code target} to {@code editedPerson} among the authors and sources of {@code article}, which must be
+     * in the article book, by replacing it with a renamed copy.
+     * Returns the article now in the article book, which is {@code article} itself if it did not name
+     * {@code target}.
      */
-    public void makeLinks(AddressBook addressBook) {
-        articles.makeLinks(addressBook.getPersonList());
-    }
-
-    /**
-     * Makes links between articles and the given person.
-     */
-    public void makeLinkPerson(Person person) {
-        articles.makeLinkPerson(person);
-    }
-
-    /**
-     * Reestablishes links between articles and the edited person.
-     */
-    public void setEditedPerson(Person target, Person editedPerson) {
-        articles.setEditedPerson(target, editedPerson);
+    public Article renamePersonInArticle(Article article, Person target, Person editedPerson) {
+        Article renamedArticle = article.withNamesUpdated(target, editedPerson);
+        if (renamedArticle != article) {
+            setArticle(article, renamedArticle);
+        }
+        return renamedArticle;
     }
 
     @Override
@@ -0,0 +1,37 @@
+package seedu.address.model;
+
+import java.util.List;
+
+import seedu.address.model.article.Article;
+
+/**
+ * Receives the changes made to an {@code ArticleBook}, in the order they are made.
+ * Replaying the changes, in order, on a copy of the article book reproduces its contents.
+ */
+public interface ArticleBookListener {
+
+    /**
+     * Called after {@code article} is added to the end of the article list.
+     */
+    void articleAdded(Article article);
+
+    /**
+     * Called after the article at {@code index} is replaced by, or updated to, {@code article}.
+     */
+    void articleSet(int index, Article article);
+
+    /**
+     * Called after the article at {@code index} is removed.
+     */
+    void articleRemoved(int index);
+
+    /**
+     * Called after the article list is sorted by the attribute represented by {@code prefix}.
+     */
+    void articlesSorted(String prefix);
+
+    /**
+     * Called after the whole article list is replaced by {@code articles}.
+     */
+    void articlesReset(List<Article> articles);
+}
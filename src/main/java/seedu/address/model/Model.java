@@ -5,6 +5,7 @@ import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.util.PagedList;
 import seedu.address.model.article.Article;
 import seedu.address.model.person.Person;
 
@@ -85,6 +86,11 @@ public interface Model {
      */
     void sortAddressBook(String prefix);
 
+    /**
+     * Returns a count that changes whenever the address book is modified, e.g. to tell whether it needs saving.
+     */
+    long getAddressBookModificationCount();
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -104,6 +110,11 @@ public interface Model {
     /** Returns the ArticleBook */
     ReadOnlyArticleBook getArticleBook();
 
+    /**
+     * Registers {@code listener} to be told of every later change to the article book.
+     */
+    void addArticleBookListener(ArticleBookListener listener);
+
     /**
      * Returns true if an article with the same identity as {@code article} exists in the article book.
      */
@@ -118,6 +129,21 @@ public interface Model {
     /** Returns an unmodifiable view of the filtered article list */
     ObservableList<Article> getFilteredArticleList();
 
+    /**
+     * Returns the page of the filtered article list that is shown, which is the whole filtered article list if it
+     * is not paged. Pages are moved through the returned list; its page size is set through
+     * {@link #setArticlePageSize(int)} so that it is kept in the user prefs.
+     * Articles are still referred to by their index in the filtered article list.
+     */
+    PagedList<Article> getPagedArticleList();
+
+    /**
+     * Sets the number of articles on each page of the filtered article list, or turns paging off if
+     * {@code pageSize} is 0.
+     * @throws IllegalArgumentException if {@code pageSize} is negative.
+     */
+    void setArticlePageSize(int pageSize);
+
     /**
      * Replaces the given article {@code target} with {@code editedArticle}.
      * {@code target} must exist in the article book.
@@ -137,6 +163,11 @@ public interface Model {
      */
     void sortArticleBook(String prefix);
 
+    /**
+     * Returns a count that changes whenever the article book is modified, e.g. to tell whether it needs saving.
+     */
+    long getArticleBookModificationCount();
+
     /**
      * Updates the filter of the filtered article list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
@@ -11,6 +11,7 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.PagedList;
 import seedu.address.model.article.Article;
 import seedu.address.model.article.ArticleWithinPersonPredicate;
 import seedu.address.model.person.NameWithinArticlePredicate;
@@ -27,7 +28,11 @@ public class ModelManager implements Model {
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
     private final FilteredList<Article> filteredArticles;
+    private final PagedList<Article> pagedArticles;
     private final ArticleFilter filter;
+    private final PersonArticleLinks links;
+    private long addressBookModificationCount;
+    private long articleBookModificationCount;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -42,9 +47,11 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
         filteredArticles = new FilteredList<>(this.articleBook.getArticleList());
+        pagedArticles = new PagedList<>(filteredArticles, this.userPrefs.getArticlePageSize());
         filter = new ArticleFilter();
 
-        this.articleBook.makeLinks(this.addressBook);
+        links = new PersonArticleLinks(this.addressBook, this.articleBook);
+        links.relinkAll();
     }
 
     public ModelManager() {
@@ -57,6 +64,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        pagedArticles.setPageSize(this.userPrefs.getArticlePageSize());
     }
 
     @Override
@@ -91,6 +99,8 @@ public class ModelManager implements Model {
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         requireNonNull(addressBook);
         this.addressBook.resetData(addressBook);
+        addressBookModificationCount++;
+        links.relinkAll();
     }
 
     @Override
@@ -108,13 +118,16 @@ public class ModelManager implements Model {
     public void deletePerson(Person target) {
         requireNonNull(target);
         addressBook.removePerson(target);
+        addressBookModificationCount++;
+        links.personRemoved(target);
     }
 
     @Override
     public void addPerson(Person person) {
         requireNonNull(person);
         addressBook.addPerson(person);
-        articleBook.makeLinkPerson(person);
+        addressBookModificationCount++;
+        links.personAdded(person);
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -123,12 +136,27 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedPerson);
 
         addressBook.setPerson(target, editedPerson);
-        articleBook.setEditedPerson(target, editedPerson);
+        addressBookModificationCount++;
+        // Renaming the person may update many articles, which the article list only needs to be told of once.
+        articleBook.beginBatch();
+        try {
+            if (links.personSet(target, editedPerson)) {
+                articleBookModificationCount++;
+            }
+        } finally {
+            articleBook.endBatch();
+        }
     }
 
     @Override
     public void sortAddressBook(String prefix) {
         addressBook.sortAddressBook(prefix);
+        addressBookModificationCount++;
+    }
+
+    @Override
+    public long getAddressBookModificationCount() {
+        return addressBookModificationCount;
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -154,6 +182,8 @@ public class ModelManager implements Model {
     public void setArticleBook(ReadOnlyArticleBook articleBook) {
         requireNonNull(articleBook);
         this.articleBook.resetData(articleBook);
+        articleBookModificationCount++;
+        links.relinkAll();
     }
 
     @Override
@@ -161,6 +191,12 @@ public class ModelManager implements Model {
         return articleBook;
     }
 
+    @Override
+    public void addArticleBookListener(ArticleBookListener listener) {
+        requireNonNull(listener);
+        articleBook.addListener(listener);
+    }
+
     @Override
     public boolean hasArticle(Article article) {
         requireNonNull(article);
@@ -171,13 +207,16 @@ public class ModelManager implements Model {
     public void deleteArticle(Article target) {
         requireNonNull(target);
         articleBook.removeArticle(target);
+        articleBookModificationCount++;
+        links.articleRemoved(target);
     }
 
     @Override
     public void addArticle(Article article) {
         requireNonNull(article);
         articleBook.addArticle(article);
-        article.makeLinks(addressBook.getPersonList());
+        articleBookModificationCount++;
+        links.articleAdded(article);
         updateFilteredArticleList(PREDICATE_SHOW_ALL_ARTICLES);
     }
 
@@ -185,13 +224,20 @@ public class ModelManager implements Model {
     public void setArticle(Article target, Article editedArticle) {
         requireAllNonNull(target, editedArticle);
 
-        editedArticle.setPersons(editedArticle.getMatchingPersonsList(addressBook.getPersonList()));
         articleBook.setArticle(target, editedArticle);
+        articleBookModificationCount++;
+        links.articleSet(target, editedArticle);
     }
 
     @Override
     public void sortArticleBook(String prefix) {
         articleBook.sortArticleBook(prefix);
+        articleBookModificationCount++;
+    }
+
+    @Override
+    public long getArticleBookModificationCount() {
+        return articleBookModificationCount;
     }
 
     //=========== Filtered Article List Accessors =============================================================
@@ -205,10 +251,23 @@ public class ModelManager implements Model {
         return filteredArticles;
     }
 
+    @Override
+    public PagedList<Article> getPagedArticleList() {
+        return pagedArticles;
+    }
+
+    @Override
+    public void setArticlePageSize(int pageSize) {
+        userPrefs.setArticlePageSize(pageSize);
+        pagedArticles.setPageSize(pageSize);
+    }
+
     @Override
     public void updateFilteredArticleList(Predicate<Article> predicate) {
         requireNonNull(predicate);
-        predicate = predicate.and(filter.getFinalPredicate());
+        // Answer indexed clauses from the article book's indexes instead of testing every field of every article.
+        predicate = articleBook.toIndexedPredicate(predicate)
+                .and(articleBook.toIndexedPredicate(filter.getFinalPredicate()));
         filteredArticles.setPredicate(predicate);
     }
 
@@ -238,14 +297,15 @@ public class ModelManager implements Model {
     @Override
     public void lookupArticle(Article article) {
         requireNonNull(article);
-        NameWithinArticlePredicate predicate = new NameWithinArticlePredicate(article);
+        NameWithinArticlePredicate predicate = new NameWithinArticlePredicate(article, links.getPersonIds(article));
         updateFilteredPersonList(predicate);
     }
 
     @Override
     public void lookupPerson(Person personToLookup) {
         requireNonNull(personToLookup);
-        ArticleWithinPersonPredicate predicate = new ArticleWithinPersonPredicate(personToLookup);
+        ArticleWithinPersonPredicate predicate = new ArticleWithinPersonPredicate(personToLookup,
+                links.getArticleIds(personToLookup));
         updateFilteredArticleList(predicate);
     }
 }
@@ -0,0 +1,183 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.article.Article;
+import seedu.address.model.person.Person;
+
+/**
+ * The links between the persons of an address book and the articles of an article book that name them as authors
+ * or sources, kept as pairs of person and article IDs.
+ *
+ * As IDs stay the same through edits, an edited person or article only has its own links looked at, instead of every
+ * article being matched against the address book again. Articles whose details have not been loaded yet are only
+ * linked once their links are asked for, so that linking does not load them.
+ */
+class PersonArticleLinks {
+    private final AddressBook addressBook;
+    private final ArticleBook articleBook;
+
+    private final Map<Long, Set<Long>> articleIdsByPersonId = new HashMap<>();
+    private final Map<Long, Set<Long>> personIdsByArticleId = new HashMap<>();
+    /** Articles whose links have not been made yet, by ID. */
+    private final Map<Long, Article> unlinkedArticles = new HashMap<>();
+
+    /**
+     * Creates a {@code PersonArticleLinks} between the persons of {@code addressBook} and the articles of
+     * {@code articleBook}, which is told of every change to either of them.
+     */
+    PersonArticleLinks(AddressBook addressBook, ArticleBook articleBook) {
+        requireNonNull(addressBook);
+        requireNonNull(articleBook);
+        this.addressBook = addressBook;
+        this.articleBook = articleBook;
+    }
+
+    /**
+     * Drops every link, and links every article of the article book afresh.
+     */
+    void relinkAll() {
+        articleIdsByPersonId.clear();
+        personIdsByArticleId.clear();
+        unlinkedArticles.clear();
+        for (Article article : articleBook.getArticleList()) {
+            articleAdded(article);
+        }
+    }
+
+    /**
+     * Links {@code article} to the persons it names, once it is needed if its details have not been loaded yet.
+     */
+    void articleAdded(Article article) {
+        if (article.isDetailsLoaded()) {
+            link(article);
+        } else {
+            unlinkedArticles.put(article.getId(), article);
+        }
+    }
+
+    /**
+     * Drops the links of {@code article}.
+     */
+    void articleRemoved(Article article) {
+        unlinkedArticles.remove(article.getId());
+        Set<Long> personIds = personIdsByArticleId.remove(article.getId());
+        if (personIds != null) {
+            personIds.forEach(personId -> removeFrom(articleIdsByPersonId, personId, article.getId()));
+        }
+    }
+
+    /**
+     * Replaces the links of {@code target} with those of {@code editedArticle}.
+     */
+    void articleSet(Article target, Article editedArticle) {
+        articleRemoved(target);
+        articleAdded(editedArticle);
+    }
+
+    /**
+     * Links {@code person} to the articles that name it.
+     * Articles not linked yet are left alone, as they will find {@code person} once they are linked.
+     */
+    void personAdded(Person person) {
+        for (Article article : articleBook.getArticleList()) {
+            if (!unlinkedArticles.containsKey(article.getId()) && article.isNaming(person.getNameString())) {
+                addLink(person.getId(), article.getId());
+            }
+        }
+    }
+
+    /**
+     * Drops the links of {@code person}.
+     */
+    void personRemoved(Person person) {
+        Set<Long> articleIds = articleIdsByPersonId.remove(person.getId());
+        if (articleIds != null) {
+            articleIds.forEach(articleId -> removeFrom(personIdsByArticleId, articleId, person.getId()));
+        }
+    }
+
+    /**
+     * Moves the links of {@code target} over to {@code editedPerson}, and renames {@code target} to
+     * {@code editedPerson} in the articles that name it. Only the articles linked to {@code target} and those not
+     * linked yet need to be looked at.
+     *
+     * @return true if {@code target} was renamed in any article.
+     */
+    boolean personSet(Person target, Person editedPerson) {
+        boolean isNameChanged = !target.getNameString().equals(editedPerson.getNameString());
+        boolean isRenamed = false;
+        Set<Long> articleIds = articleIdsByPersonId.getOrDefault(target.getId(), Collections.emptySet());
+        personRemoved(target);
+        for (long articleId : articleIds) {
+            if (isNameChanged) {
+                Article article = articleBook.findArticleById(articleId).orElseThrow();
+                isRenamed |= articleBook.renamePersonInArticle(article, target, editedPerson) != article;
+            }
+            addLink(editedPerson.getId(), articleId);
+        }
+        if (isNameChanged) {
+            Iterator<Article> unlinked = unlinkedArticles.values().iterator();
+            while (unlinked.hasNext()) {
+                Article article = unlinked.next();
+                // Only loads the articles that may name the person.
+                Article renamedArticle = articleBook.renamePersonInArticle(article, target, editedPerson);
+                if (renamedArticle != article) {
+                    // The renamed copy has its details loaded, so it is linked straight away.
+                    unlinked.remove();
+                    link(renamedArticle);
+                    isRenamed = true;
+                }
+            }
+        }
+        return isRenamed;
+    }
+
+    /**
+     * Returns the IDs of the articles linked to {@code person}.
+     * Only the articles not linked yet that may name {@code person} are loaded to find out.
+     */
+    Set<Long> getArticleIds(Person person) {
+        unlinkedArticles.values().removeIf(article -> {
+            if (!article.isNaming(person.getNameString())) {
+                return false;
+            }
+            link(article);
+            return true;
+        });
+        return Set.copyOf(articleIdsByPersonId.getOrDefault(person.getId(), Collections.emptySet()));
+    }
+
+    /**
+     * Returns the IDs of the persons linked to {@code article}.
+     */
+    Set<Long> getPersonIds(Article article) {
+        Article unlinkedArticle = unlinkedArticles.remove(article.getId());
+        if (unlinkedArticle != null) {
+            link(unlinkedArticle);
+        }
+        return Set.copyOf(personIdsByArticleId.getOrDefault(article.getId(), Collections.emptySet()));
+    }
+
+    private void link(Article article) {
+        for (Person person : article.getMatchingPersonsList(addressBook::findPersonByFullName)) {
+            addLink(person.getId(), article.getId());
+        }
+    }
+
+    private void addLink(long personId, long articleId) {
+        articleIdsByPersonId.computeIfAbsent(personId, id -> new HashSet<>()).add(articleId);
+        personIdsByArticleId.computeIfAbsent(articleId, id -> new HashSet<>()).add(personId);
+    }
+
+    private static void removeFrom(Map<Long, Set<Long>> ids, long key, long id) {
+        ids.computeIfPresent(key, (unused, idSet) -> idSet.remove(id) && idSet.isEmpty() ? null : idSet);
+    }
+}
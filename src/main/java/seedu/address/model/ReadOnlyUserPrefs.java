@@ -3,6 +3,7 @@ package seedu.address.model;
 import java.nio.file.Path;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.util.FileUtil.SyncPolicy;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +14,14 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    boolean isArticleBookJournaled();
+
+    boolean isArticleBookBinary();
+
+    boolean isDataFileCompact();
+
+    SyncPolicy getDataFileSyncPolicy();
+
+    int getArticlePageSize();
+
 }
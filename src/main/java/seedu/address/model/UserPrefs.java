@@ -1,12 +1,15 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.util.FileUtil.SyncPolicy;
+import seedu.address.commons.util.PagedList;
 
 /**
  * Represents User's preferences.
@@ -16,6 +19,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
     private Path articleBookFilePath = Paths.get("data", "articlebook.json");
+    private boolean isArticleBookJournaled = false;
+    private boolean isArticleBookBinary = false;
+    private boolean isDataFileCompact = false;
+    private SyncPolicy dataFileSyncPolicy = SyncPolicy.FILE;
+    private int articlePageSize = 0;
     /**
      * Creates a {@code UserPrefs} with default values.
      */
@@ -36,6 +44,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setArticleBookJournaled(newUserPrefs.isArticleBookJournaled());
+        setArticleBookBinary(newUserPrefs.isArticleBookBinary());
+        setDataFileCompact(newUserPrefs.isDataFileCompact());
+        setDataFileSyncPolicy(newUserPrefs.getDataFileSyncPolicy());
+        setArticlePageSize(newUserPrefs.getArticlePageSize());
     }
 
     public GuiSettings getGuiSettings() {
@@ -47,6 +60,29 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.guiSettings = guiSettings;
     }
 
+    /**
+     * Returns true if the address and article book files should be saved without line breaks or indentation.
+     */
+    public boolean isDataFileCompact() {
+        return isDataFileCompact;
+    }
+
+    public void setDataFileCompact(boolean isDataFileCompact) {
+        this.isDataFileCompact = isDataFileCompact;
+    }
+
+    /**
+     * Returns how much of each save of the address and article book files must reach the disk before it is done.
+     */
+    public SyncPolicy getDataFileSyncPolicy() {
+        return dataFileSyncPolicy;
+    }
+
+    public void setDataFileSyncPolicy(SyncPolicy dataFileSyncPolicy) {
+        requireNonNull(dataFileSyncPolicy);
+        this.dataFileSyncPolicy = dataFileSyncPolicy;
+    }
+
     // ================ AddressBook methods ==============================
 
     public Path getAddressBookFilePath() {
@@ -64,6 +100,43 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         return articleBookFilePath;
     }
 
+    /**
+     * Returns true if changes to the article book should be appended to a journal instead of rewriting the
+     * whole article book file after every command.
+     */
+    public boolean isArticleBookJournaled() {
+        return isArticleBookJournaled;
+    }
+
+    public void setArticleBookJournaled(boolean isArticleBookJournaled) {
+        this.isArticleBookJournaled = isArticleBookJournaled;
+    }
+
+    /**
+     * Returns true if the article book should be stored in the compact binary format, in a file named after the
+     * article book file path but ending with .bin. An article book only in the json file yet is converted to it.
+     * Ignored if the article book is journaled.
+     */
+    public boolean isArticleBookBinary() {
+        return isArticleBookBinary;
+    }
+
+    public void setArticleBookBinary(boolean isArticleBookBinary) {
+        this.isArticleBookBinary = isArticleBookBinary;
+    }
+
+    /**
+     * Returns the number of articles shown on each page of the article list, or 0 if the list is not paged.
+     */
+    public int getArticlePageSize() {
+        return articlePageSize;
+    }
+
+    public void setArticlePageSize(int articlePageSize) {
+        checkArgument(articlePageSize >= 0, PagedList.MESSAGE_INVALID_PAGE_SIZE);
+        this.articlePageSize = articlePageSize;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -77,12 +150,18 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && isArticleBookJournaled == otherUserPrefs.isArticleBookJournaled
+                && isArticleBookBinary == otherUserPrefs.isArticleBookBinary
+                && isDataFileCompact == otherUserPrefs.isDataFileCompact
+                && dataFileSyncPolicy.equals(otherUserPrefs.dataFileSyncPolicy)
+                && articlePageSize == otherUserPrefs.articlePageSize;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, isArticleBookJournaled, isArticleBookBinary,
+                isDataFileCompact, dataFileSyncPolicy, articlePageSize);
     }
 
     @Override
@@ -90,6 +169,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nArticle book journaled : " + isArticleBookJournaled);
+        sb.append("\nArticle book binary : " + isArticleBookBinary);
+        sb.append("\nData file compact : " + isDataFileCompact);
+        sb.append("\nData file sync policy : " + dataFileSyncPolicy);
+        sb.append("\nArticle page size : " + articlePageSize);
         return sb.toString();
     }
 
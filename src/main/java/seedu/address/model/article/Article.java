@@ -1,15 +1,18 @@
 package seedu.address.model.article;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.commons.util.CollectionUtil.toCompactSet;
 import static seedu.address.logic.parser.ParserUtil.parseDateToString;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 
+import seedu.address.commons.util.IdGenerator;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
@@ -18,14 +21,24 @@ import seedu.address.model.tag.Tag;
  * Represents an article in the address book.
  */
 public class Article {
+    private static final IdGenerator idGenerator = new IdGenerator();
+    // Shown by toString() in place of details that have not been loaded, as logging an article must not load them.
+    private static final String DETAILS_NOT_LOADED = "<not loaded>";
+
+    // Stays the same through edits, and is not part of the equality of articles.
+    private final long id;
     private final Title title;
-    private final Set<Outlet> outlets = new HashSet<>();
-    private final Set<Author> authors = new HashSet<>();
-    private final Set<Source> sources = new HashSet<>();
-    private final Set<Tag> tags = new HashSet<>();
+    // Outlets, authors, sources and link are the details, which are only filled in on first use for articles
+    // constructed without them (see loadDetails()). They never change once set: renaming a linked person makes a
+    // new article (see withNamesUpdated()), as the UI and background saves may be reading this one meanwhile.
+    private Set<Outlet> outlets;
+    private Set<Author> authors;
+    private Set<Source> sources;
+    private final Set<Tag> tags;
     private final PublicationDate publicationDate;
-
-    private List<Person> persons = new ArrayList<>();
+    private volatile boolean isDetailsLoaded;
+    // Made on first display.
+    private volatile ArticleDisplayFields displayFields;
 
     /**
      * Enumeration of Status of an article.
@@ -35,10 +48,10 @@ public class Article {
     }
 
     private final Status status;
-    private final Link link;
+    private Link link;
 
     /**
-     * Constructs an Article object.
+     * Constructs an Article object with a new ID.
      *
      * @param title the title of the article.
      * @param authors the authors of the article.
@@ -49,23 +62,124 @@ public class Article {
      */
     public Article(Title title, Set<Author> authors, Set<Source> sources, Set<Tag> tags,
                    Set<Outlet> outlets, PublicationDate publicationDate, Status status, Link link) {
+        this(idGenerator.next(), title, authors, sources, tags, outlets, publicationDate, status, link);
+    }
+
+    /**
+     * Constructs an Article object with the given ID, such as one read back from storage or that of the article
+     * it is an edited version of.
+     *
+     * @throws IllegalArgumentException if {@code id} is not a valid ID.
+     */
+    public Article(long id, Title title, Set<Author> authors, Set<Source> sources, Set<Tag> tags,
+                   Set<Outlet> outlets, PublicationDate publicationDate, Status status, Link link) {
         requireAllNonNull(title, authors, sources, tags, outlets, publicationDate, status);
+        idGenerator.reserve(id);
+        this.id = id;
+        this.title = title;
+        this.authors = toCompactSet(authors);
+        this.sources = toCompactSet(sources);
+        this.tags = toCompactSet(tags);
+        this.outlets = toCompactSet(outlets);
+        this.publicationDate = publicationDate;
+        this.status = status;
+        this.link = link;
+        this.isDetailsLoaded = true;
+    }
+
+    /**
+     * Constructs an Article with a new ID whose authors, sources, outlets and link are only loaded by
+     * {@link #loadDetails()} the first time any of them is needed.
+     */
+    protected Article(Title title, Set<Tag> tags, PublicationDate publicationDate, Status status) {
+        this(idGenerator.next(), title, tags, publicationDate, status);
+    }
+
+    /**
+     * Constructs an Article with the given ID whose authors, sources, outlets and link are only loaded by
+     * {@link #loadDetails()} the first time any of them is needed.
+     *
+     * @throws IllegalArgumentException if {@code id} is not a valid ID.
+     */
+    protected Article(long id, Title title, Set<Tag> tags, PublicationDate publicationDate, Status status) {
+        requireAllNonNull(title, tags, publicationDate, status);
+        idGenerator.reserve(id);
+        this.id = id;
         this.title = title;
-        this.authors.addAll(authors);
-        this.sources.addAll(sources);
-        this.tags.addAll(tags);
-        this.outlets.addAll(outlets);
+        this.tags = toCompactSet(tags);
         this.publicationDate = publicationDate;
         this.status = status;
+    }
+
+    /**
+     * Loads the authors, sources, outlets and link of an article constructed without them, and hands them to
+     * {@link #setDetails}. Called at most once, the first time any of them is needed.
+     */
+    protected void loadDetails() {
+        throw new IllegalStateException("The details of " + title + " cannot be loaded");
+    }
+
+    /**
+     * Sets the authors, sources, outlets and link loaded by {@link #loadDetails()}.
+     */
+    protected final void setDetails(Set<Author> authors, Set<Source> sources, Set<Outlet> outlets, Link link) {
+        requireAllNonNull(authors, sources, outlets);
+        this.authors = toCompactSet(authors);
+        this.sources = toCompactSet(sources);
+        this.outlets = toCompactSet(outlets);
         this.link = link;
     }
 
+    /**
+     * Returns false if none of the authors and sources of this article, which have not been loaded yet, is named
+     * {@code fullName}, so that subclasses can avoid loading the details just to find that out.
+     */
+    protected boolean mayNamePerson(String fullName) {
+        return true;
+    }
+
+    /**
+     * Returns true if the details of this article and of {@code other}, of which at least one has not been loaded
+     * yet, are known to be the same without loading them, such as when both are read from the same stored record.
+     */
+    protected boolean hasSameDetailsSource(Article other) {
+        return false;
+    }
+
+    /**
+     * Returns true if the authors, sources, outlets and link of this article are in memory.
+     */
+    public boolean isDetailsLoaded() {
+        return isDetailsLoaded;
+    }
+
+    private void ensureDetailsLoaded() {
+        if (isDetailsLoaded) {
+            return;
+        }
+        // Saves in the background may ask for the details at the same time as the UI.
+        synchronized (this) {
+            if (!isDetailsLoaded) {
+                loadDetails();
+                isDetailsLoaded = true;
+            }
+        }
+    }
+
+    /**
+     * Returns the ID of this article, which is unique among the articles of an article book.
+     */
+    public long getId() {
+        return id;
+    }
+
     public Title getTitle() {
         return title;
     }
 
     public Set<Author> getAuthors() {
-        return Collections.unmodifiableSet(authors);
+        ensureDetailsLoaded();
+        return authors;
     }
 
     public PublicationDate getPublicationDate() {
@@ -77,28 +191,42 @@ public class Article {
     }
 
     public Set<Outlet> getOutlets() {
-        return Collections.unmodifiableSet(outlets);
+        ensureDetailsLoaded();
+        return outlets;
     }
 
     public Set<Source> getSources() {
-        return Collections.unmodifiableSet(sources);
+        ensureDetailsLoaded();
+        return sources;
     }
 
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     public Status getStatus() {
         return this.status;
     }
 
-    public List<Person> getPersons() {
-        return persons;
-    }
     public Link getLink() {
+        ensureDetailsLoaded();
         return this.link;
     }
 
+    /**
+     * Returns the fields of this article as they are displayed, which are only worked out the first time they are
+     * asked for.
+     */
+    public ArticleDisplayFields getDisplayFields() {
+        ArticleDisplayFields fields = displayFields;
+        if (fields == null) {
+            // Two threads may both make them, but they make equal fields, so either may be kept.
+            fields = new ArticleDisplayFields(this);
+            displayFields = fields;
+        }
+        return fields;
+    }
+
     /**
      * Returns true if all the attributes of Article class are identical to the attributes of an existing Article.
      *
@@ -123,91 +251,62 @@ public class Article {
 
     /**
      * Returns a list of persons that match the authors and sources of the article.
+     * Each author and source name is resolved with a single lookup, so the cost does not depend on the number of
+     * persons behind {@code personLookup}.
      *
-     * @param persons a list of persons to compare against the article's authors and sources.
+     * @param personLookup resolves an exact full name to the person with that name, if any.
      * @return a list of persons that match the authors and sources of the article.
      */
-    public List<Person> getMatchingPersonsList(List<Person> persons) {
+    public List<Person> getMatchingPersonsList(Function<String, Optional<Person>> personLookup) {
         List<Person> matchingPersons = new ArrayList<>();
-        for (Person person : persons) {
-            for (Author author : authors) {
-                if (author.authorName.equals(person.getNameString())) {
-                    matchingPersons.add(person);
-                }
-            }
-            for (Source source : sources) {
-                if (source.sourceName.equals(person.getNameString())) {
-                    matchingPersons.add(person);
-                }
-            }
+        for (Author author : getAuthors()) {
+            personLookup.apply(author.authorName).ifPresent(matchingPersons::add);
+        }
+        for (Source source : getSources()) {
+            personLookup.apply(source.sourceName).ifPresent(matchingPersons::add);
         }
         return matchingPersons;
     }
 
     /**
-     * Sets the persons list of an edited article.
-     *
-     * @param persons
+     * Returns true if any author or source of this article is named exactly {@code fullName}.
+     * Articles whose details have not been loaded yet are only loaded if they may name {@code fullName}.
      */
-    public void setPersons(List<Person> persons) {
-        makeLinks(persons);
-        this.persons = persons;
-    }
-
-    /**
-     * Makes links between the article and the persons in the list.
-     *
-     * @param persons
-     */
-    public void makeLinks(List<Person> persons) {
-        for (Person person : persons) {
-            makeLink(person);
+    public boolean isNaming(String fullName) {
+        if (!isDetailsLoaded && !mayNamePerson(fullName)) {
+            return false;
         }
+        return getAuthors().stream().anyMatch(author -> author.authorName.equals(fullName))
+                || getSources().stream().anyMatch(source -> source.sourceName.equals(fullName));
     }
 
     /**
-     * Makes links between the article and the person.
-     *
-     * @param person
+     * Returns a copy of this article, with the same ID, in which the authors and sources named after {@code from}
+     * are named after {@code to} instead. Returns this article itself if it does not name {@code from}.
+     * This article is left unchanged, so that threads still showing or saving it never see a half-renamed article.
      */
-    public void makeLink(Person person) {
-        for (Author author : authors) {
-            if (author.authorName.equals(person.getNameString())) {
-                persons.add(person);
-                person.addArticle(this);
-            }
-        }
-        for (Source source : sources) {
-            if (source.sourceName.equals(person.getNameString())) {
-                persons.add(person);
-                person.addArticle(this);
-            }
+    public Article withNamesUpdated(Person from, Person to) {
+        if (!isNaming(from.getNameString())) {
+            return this;
         }
-    }
-
-    /**
-     * Updates the names in the article when a person is edited.
-     *
-     * @param from
-     * @param to
-     */
-    public void updateNamesInArticle(Person from, Person to) {
-        for (Author author : authors) {
+        Set<Author> updatedAuthors = new HashSet<>();
+        for (Author author : getAuthors()) {
             if (author.authorName.equals(from.getNameString())) {
-                authors.remove(author);
-                persons.remove(from);
-                authors.add(new Author(to.getNameString()));
-                persons.add(to);
+                updatedAuthors.add(Author.of(to.getNameString()));
+            } else {
+                updatedAuthors.add(author);
             }
         }
-        for (Source source : sources) {
+        Set<Source> updatedSources = new HashSet<>();
+        for (Source source : getSources()) {
             if (source.sourceName.equals(from.getNameString())) {
-                sources.remove(source);
-                persons.remove(from);
-                sources.add(new Source(to.getNameString()));
-                persons.add(to);
+                updatedSources.add(Source.of(to.getNameString()));
+            } else {
+                updatedSources.add(source);
             }
         }
+        return new Article(id, title, updatedAuthors, updatedSources, tags, getOutlets(), publicationDate, status,
+                getLink());
     }
 
     @Override
@@ -222,32 +321,39 @@ public class Article {
         }
 
         Article otherArticle = (Article) other;
-        return title.equals(otherArticle.title)
-                && authors.equals(otherArticle.authors)
-                && sources.equals(otherArticle.sources)
-                && tags.equals(otherArticle.tags)
-                && outlets.equals(otherArticle.outlets)
-                && publicationDate.equals(otherArticle.publicationDate)
-                && status.equals(otherArticle.status)
-                && link.equals(otherArticle.link);
+        if (!title.equals(otherArticle.title)
+                || !tags.equals(otherArticle.tags)
+                || !publicationDate.equals(otherArticle.publicationDate)
+                || !status.equals(otherArticle.status)) {
+            return false;
+        }
+        // Details are only loaded to compare articles that are otherwise equal, and read from different records.
+        if ((!isDetailsLoaded || !otherArticle.isDetailsLoaded) && hasSameDetailsSource(otherArticle)) {
+            return true;
+        }
+        return getAuthors().equals(otherArticle.getAuthors())
+                && getSources().equals(otherArticle.getSources())
+                && getOutlets().equals(otherArticle.getOutlets())
+                && getLink().equals(otherArticle.getLink());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(title, authors, sources, tags, outlets, publicationDate, status, link);
+        // Leaves out the details, so that hashing does not load them.
+        return Objects.hash(title, tags, publicationDate, status);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("headline", title)
-                .add("contributors", authors)
-                .add("interviewees", sources)
+                .add("contributors", isDetailsLoaded ? authors : DETAILS_NOT_LOADED)
+                .add("interviewees", isDetailsLoaded ? sources : DETAILS_NOT_LOADED)
                 .add("tags", tags)
-                .add("outlets", outlets)
+                .add("outlets", isDetailsLoaded ? outlets : DETAILS_NOT_LOADED)
                 .add("date", publicationDate)
                 .add("status", status)
-                .add("link", link)
+                .add("link", isDetailsLoaded ? link : DETAILS_NOT_LOADED)
                 .toString();
     }
 }
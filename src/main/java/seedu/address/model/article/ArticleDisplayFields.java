@@ -0,0 +1,69 @@
+package seedu.address.model.article;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.ParserUtil.parseDateToString;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * The fields of an {@code Article} as they are displayed: names sorted alphabetically, and the publication date
+ * formatted. Made once per article by {@link Article#getDisplayFields()}, so that showing an article again only
+ * copies these strings.
+ */
+public final class ArticleDisplayFields {
+    private final List<String> authorNames;
+    private final List<String> sourceNames;
+    private final List<String> tagNames;
+    private final List<String> outletNames;
+    private final String publicationDate;
+
+    /**
+     * Creates the display fields of {@code article}.
+     */
+    ArticleDisplayFields(Article article) {
+        requireNonNull(article);
+        authorNames = toSortedNames(article.getAuthors(), author -> author.authorName);
+        sourceNames = toSortedNames(article.getSources(), source -> source.sourceName);
+        tagNames = toSortedNames(article.getTags(), tag -> tag.tagName);
+        outletNames = toSortedNames(article.getOutlets(), outlet -> outlet.outletName);
+        publicationDate = parseDateToString(article.getPublicationDate().date);
+    }
+
+    private static <T> List<String> toSortedNames(Set<T> items, Function<T, String> toName) {
+        String[] names = new String[items.size()];
+        int i = 0;
+        for (T item : items) {
+            names[i++] = toName.apply(item);
+        }
+        Arrays.sort(names);
+        return List.of(names);
+    }
+
+    /** Returns the names of the authors, sorted alphabetically. */
+    public List<String> getAuthorNames() {
+        return authorNames;
+    }
+
+    /** Returns the names of the sources, sorted alphabetically. */
+    public List<String> getSourceNames() {
+        return sourceNames;
+    }
+
+    /** Returns the names of the tags, sorted alphabetically. */
+    public List<String> getTagNames() {
+        return tagNames;
+    }
+
+    /** Returns the names of the outlets, sorted alphabetically. */
+    public List<String> getOutletNames() {
+        return outletNames;
+    }
+
+    /** Returns the publication date, formatted as by {@link Article#getPublicationDateAsString()}. */
+    public String getPublicationDate() {
+        return publicationDate;
+    }
+}
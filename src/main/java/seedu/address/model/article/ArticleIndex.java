@@ -0,0 +1,178 @@
+package seedu.address.model.article;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Indexes the articles of an article book by title word, publication date, status and tag, and plans article
+ * predicates against those indexes.
+ * Articles are tracked by identity, since drafts with identical fields may coexist in an article book.
+ *
+ * The index must be told about every article added to or removed from the list it mirrors.
+ */
+public class ArticleIndex {
+
+    private final TitleKeywordIndex titleKeywordIndex = new TitleKeywordIndex();
+    private final PublicationDateIndex publicationDateIndex = new PublicationDateIndex();
+    private final Map<Article.Status, Set<Article>> articlesByStatus = new EnumMap<>(Article.Status.class);
+    private final Map<Tag, Set<Article>> articlesByTag = new HashMap<>();
+    private int version;
+
+    /**
+     * Adds {@code article} to every index.
+     */
+    public void add(Article article) {
+        requireNonNull(article);
+        titleKeywordIndex.add(article);
+        publicationDateIndex.add(article);
+        articlesByStatus.computeIfAbsent(article.getStatus(), unused -> newArticleSet()).add(article);
+        for (Tag tag : article.getTags()) {
+            articlesByTag.computeIfAbsent(tag, unused -> newArticleSet()).add(article);
+        }
+        version++;
+    }
+
+    /**
+     * Removes {@code article} from every index.
+     */
+    public void remove(Article article) {
+        requireNonNull(article);
+        titleKeywordIndex.remove(article);
+        publicationDateIndex.remove(article);
+        removeFromPosting(articlesByStatus, article.getStatus(), article);
+        for (Tag tag : article.getTags()) {
+            removeFromPosting(articlesByTag, tag, article);
+        }
+        version++;
+    }
+
+    /**
+     * Removes all articles from every index.
+     */
+    public void clear() {
+        titleKeywordIndex.clear();
+        publicationDateIndex.clear();
+        articlesByStatus.clear();
+        articlesByTag.clear();
+        version++;
+    }
+
+    /**
+     * Returns a predicate that matches the same indexed articles as {@code predicate}.
+     *
+     * Title keyword, publication date range, status and tag clauses, on their own or as parts of an
+     * {@link ArticleMatchesAllPredicate}, are answered from the indexes: their candidate sets are intersected
+     * starting from the smallest, and only the remaining clauses are evaluated per article.
+     * The candidates are worked out on first use and again only after the index changes.
+     * Predicates with no indexed clause are returned unchanged.
+     */
+    public Predicate<Article> toIndexedPredicate(Predicate<Article> predicate) {
+        requireNonNull(predicate);
+        List<Predicate<Article>> clauses = predicate instanceof ArticleMatchesAllPredicate
+                ? ((ArticleMatchesAllPredicate) predicate).getPredicates()
+                : Collections.singletonList(predicate);
+
+        List<Predicate<Article>> indexedClauses = new ArrayList<>();
+        List<Predicate<Article>> residualClauses = new ArrayList<>();
+        for (Predicate<Article> clause : clauses) {
+            if (isIndexed(clause)) {
+                indexedClauses.add(clause);
+            } else {
+                residualClauses.add(clause);
+            }
+        }
+        if (indexedClauses.isEmpty()) {
+            return predicate;
+        }
+
+        return new Predicate<>() {
+            private Set<Article> candidates;
+            private int candidatesVersion;
+
+            @Override
+            public boolean test(Article article) {
+                if (candidates == null || candidatesVersion != version) {
+                    candidates = findCandidates(indexedClauses);
+                    candidatesVersion = version;
+                }
+                if (!candidates.contains(article)) {
+                    return false;
+                }
+                for (Predicate<Article> clause : residualClauses) {
+                    if (!clause.test(article)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        };
+    }
+
+    private static boolean isIndexed(Predicate<Article> clause) {
+        return clause instanceof TitleContainsKeywordsPredicate
+                || clause instanceof ArticleMatchesTimePeriodPredicate
+                || clause instanceof ArticleMatchesStatusPredicate
+                || clause instanceof ArticleMatchesTagPredicate;
+    }
+
+    /**
+     * Returns the articles matching every one of {@code indexedClauses}, intersecting the smallest sets first.
+     */
+    private Set<Article> findCandidates(List<Predicate<Article>> indexedClauses) {
+        List<Set<Article>> postings = new ArrayList<>();
+        for (Predicate<Article> clause : indexedClauses) {
+            postings.add(findPosting(clause));
+        }
+        postings.sort(Comparator.comparingInt(Set::size));
+
+        Set<Article> candidates = newArticleSet();
+        candidates.addAll(postings.get(0));
+        for (int i = 1; i < postings.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(postings.get(i));
+        }
+        return candidates;
+    }
+
+    private Set<Article> findPosting(Predicate<Article> clause) {
+        if (clause instanceof TitleContainsKeywordsPredicate) {
+            return titleKeywordIndex.findAny(((TitleContainsKeywordsPredicate) clause).getKeywords());
+        }
+        if (clause instanceof ArticleMatchesTimePeriodPredicate) {
+            ArticleMatchesTimePeriodPredicate timePeriod = (ArticleMatchesTimePeriodPredicate) clause;
+            return publicationDateIndex.findBetween(timePeriod.getStart(), timePeriod.getEnd());
+        }
+        if (clause instanceof ArticleMatchesStatusPredicate) {
+            Enum<Article.Status> status = ((ArticleMatchesStatusPredicate) clause).getStatus();
+            return articlesByStatus.getOrDefault(status, Collections.emptySet());
+        }
+        assert clause instanceof ArticleMatchesTagPredicate;
+        Tag tag = ((ArticleMatchesTagPredicate) clause).getTag();
+        return articlesByTag.getOrDefault(tag, Collections.emptySet());
+    }
+
+    private static <K> void removeFromPosting(Map<K, Set<Article>> postings, K key, Article article) {
+        Set<Article> posting = postings.get(key);
+        if (posting != null) {
+            posting.remove(article);
+            if (posting.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    private static Set<Article> newArticleSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
@@ -0,0 +1,39 @@
+package seedu.address.model.article;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Tests that an {@code Article} matches every one of the given predicates.
+ * Unlike {@link Predicate#and(Predicate)}, the individual predicates remain visible, so that the model can answer
+ * each of them from an index where one exists.
+ */
+public class ArticleMatchesAllPredicate implements Predicate<Article> {
+    private final List<Predicate<Article>> predicates;
+
+    /**
+     * Constructs a predicate that tests if an article matches all of {@code predicates}.
+     */
+    public ArticleMatchesAllPredicate(List<Predicate<Article>> predicates) {
+        requireNonNull(predicates);
+        this.predicates = Collections.unmodifiableList(new ArrayList<>(predicates));
+    }
+
+    public List<Predicate<Article>> getPredicates() {
+        return predicates;
+    }
+
+    @Override
+    public boolean test(Article article) {
+        for (Predicate<Article> predicate : predicates) {
+            if (!predicate.test(article)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -23,6 +23,10 @@ public class ArticleMatchesTagPredicate implements Predicate<Article> {
         this.tag = tag;
     }
 
+    public Tag getTag() {
+        return tag;
+    }
+
     @Override
     public boolean test(Article article) {
         requireNonNull(article);
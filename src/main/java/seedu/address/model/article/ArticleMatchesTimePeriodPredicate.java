@@ -24,6 +24,14 @@ public class ArticleMatchesTimePeriodPredicate implements Predicate<Article> {
         }
     }
 
+    public PublicationDate getStart() {
+        return start;
+    }
+
+    public PublicationDate getEnd() {
+        return end;
+    }
+
     @Override
     public boolean test(Article article) {
         PublicationDate articleDate = article.getPublicationDate();
@@ -1,29 +1,33 @@
 package seedu.address.model.article;
 
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
 
 /**
- * Tests that an {@code Article} is within a {@code Person}'s list of articles.
+ * Tests that an {@code Article} is linked to a {@code Person}.
  */
 public class ArticleWithinPersonPredicate implements Predicate<Article> {
 
     private final Person person;
+    private final Set<Long> articleIds;
 
     /**
      * Constructs a {@code ArticleWithinPersonPredicate}.
      *
      * @param person The person to test against.
+     * @param articleIds The IDs of the articles linked to {@code person}.
      */
-    public ArticleWithinPersonPredicate(Person person) {
+    public ArticleWithinPersonPredicate(Person person, Set<Long> articleIds) {
         this.person = person;
+        this.articleIds = articleIds;
     }
 
     @Override
     public boolean test(Article article) {
-        return person.getArticles().contains(article);
+        return articleIds.contains(article.getId());
     }
 
     @Override
@@ -38,7 +42,8 @@ public class ArticleWithinPersonPredicate implements Predicate<Article> {
         }
 
         ArticleWithinPersonPredicate otherArticleWithinPersonPredicate = (ArticleWithinPersonPredicate) other;
-        return person.equals(otherArticleWithinPersonPredicate.person);
+        return person.equals(otherArticleWithinPersonPredicate.person)
+                && articleIds.equals(otherArticleWithinPersonPredicate.articleIds);
     }
 
     @Override
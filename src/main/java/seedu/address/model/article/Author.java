@@ -3,6 +3,8 @@ package seedu.address.model.article;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents an Author of an Article
  */
@@ -10,6 +12,8 @@ public class Author {
     public static final String MESSAGE_CONSTRAINTS = "Contributor names should be alphanumeric";
     public static final String VALIDATION_REGEX = "[\\p{Alnum} ]+";
 
+    private static final Interner<String, Author> interner = new Interner<>(Author::new);
+
     public final String authorName;
 
     /**
@@ -23,6 +27,15 @@ public class Author {
         this.authorName = authorName;
     }
 
+    /**
+     * Returns the canonical {@code Author} named {@code authorName}.
+     *
+     * @param authorName A valid author name.
+     */
+    public static Author of(String authorName) {
+        return interner.intern(authorName);
+    }
+
     /**
      * Returns true if a given string is a valid author name.
      */
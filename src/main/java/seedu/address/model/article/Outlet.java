@@ -3,6 +3,8 @@ package seedu.address.model.article;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents the news outlet an Article is published by
  */
@@ -10,6 +12,8 @@ public class Outlet {
     public static final String MESSAGE_CONSTRAINTS = "Outlet names should be alphanumeric";
     public static final String VALIDATION_REGEX = "[\\p{Alnum} ]+";
 
+    private static final Interner<String, Outlet> interner = new Interner<>(Outlet::new);
+
     public final String outletName;
 
 
@@ -24,6 +28,15 @@ public class Outlet {
         this.outletName = outletName;
     }
 
+    /**
+     * Returns the canonical {@code Outlet} named {@code outletName}.
+     *
+     * @param outletName A valid outlet name.
+     */
+    public static Outlet of(String outletName) {
+        return interner.intern(outletName);
+    }
+
     /**
      * Returns true if a given string is a valid outlet name.
      */
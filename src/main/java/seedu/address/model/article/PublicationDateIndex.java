@@ -0,0 +1,70 @@
+package seedu.address.model.article;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * A sorted index from publication dates to the articles published at that moment.
+ * Articles are tracked by identity, since drafts with identical fields may coexist in an article book.
+ *
+ * The index must be told about every article added to or removed from the list it mirrors.
+ */
+public class PublicationDateIndex {
+
+    private final NavigableMap<PublicationDate, Set<Article>> articlesByDate = new TreeMap<>();
+
+    /**
+     * Adds {@code article} under its publication date.
+     */
+    public void add(Article article) {
+        requireNonNull(article);
+        articlesByDate.computeIfAbsent(article.getPublicationDate(), unused -> newArticleSet()).add(article);
+    }
+
+    /**
+     * Removes {@code article} from under its publication date.
+     */
+    public void remove(Article article) {
+        requireNonNull(article);
+        Set<Article> articles = articlesByDate.get(article.getPublicationDate());
+        if (articles != null) {
+            articles.remove(article);
+            if (articles.isEmpty()) {
+                articlesByDate.remove(article.getPublicationDate());
+            }
+        }
+    }
+
+    /**
+     * Removes all articles from the index.
+     */
+    public void clear() {
+        articlesByDate.clear();
+    }
+
+    /**
+     * Returns the articles published strictly after {@code start} and strictly before {@code end},
+     * matching {@link ArticleMatchesTimePeriodPredicate}. The returned set compares articles by identity.
+     */
+    public Set<Article> findBetween(PublicationDate start, PublicationDate end) {
+        requireAllNonNull(start, end);
+        Set<Article> matches = newArticleSet();
+        if (start.compareTo(end) >= 0) {
+            return matches;
+        }
+        for (Set<Article> articles : articlesByDate.subMap(start, false, end, false).values()) {
+            matches.addAll(articles);
+        }
+        return matches;
+    }
+
+    private static Set<Article> newArticleSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.article;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Source (Contributor) to an Article
  */
@@ -10,6 +12,8 @@ public class Source {
     public static final String MESSAGE_CONSTRAINTS = "Interviewee names should be alphanumeric";
     public static final String VALIDATION_REGEX = "[\\p{Alnum} ]+";
 
+    private static final Interner<String, Source> interner = new Interner<>(Source::new);
+
     public final String sourceName;
 
     /**
@@ -23,6 +27,15 @@ public class Source {
         this.sourceName = sourceName;
     }
 
+    /**
+     * Returns the canonical {@code Source} named {@code sourceName}.
+     *
+     * @param sourceName A valid source name.
+     */
+    public static Source of(String sourceName) {
+        return interner.intern(sourceName);
+    }
+
     /**
      * Returns true if a given string is a valid source name.
      */
@@ -3,6 +3,8 @@ package seedu.address.model.article;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents an Article's title in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidTitle(String)}
@@ -15,6 +17,9 @@ public class Title {
 
     public final String fullTitle;
 
+    /** Whitespace- and case-normalised form of the title, used for equality and hashing. */
+    private final String identityKey;
+
     /**
      * Constructs a {@code Title}.
      *
@@ -24,6 +29,7 @@ public class Title {
         requireNonNull(title);
         checkArgument(isValidTitle(title), MESSAGE_CONSTRAINTS);
         fullTitle = title;
+        identityKey = StringUtil.toCaseFoldedKey(title);
     }
 
     /**
@@ -38,18 +44,6 @@ public class Title {
         return fullTitle;
     }
 
-    private boolean areSameTitles(String[] title, String[] otherTitle) {
-        if (title.length != otherTitle.length) {
-            return false;
-        }
-        for (int i = 0; i < title.length; i++) {
-            if (!title[i].equalsIgnoreCase(otherTitle[i])) {
-                return false;
-            }
-        }
-        return true;
-    }
-
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -61,17 +55,13 @@ public class Title {
         }
 
         Title otherTitle = (Title) other;
-        String[] splitTitle = fullTitle.split("\\s+");
-        String[] splitOtherTitle = otherTitle.fullTitle.split("\\s+");
-
-        return areSameTitles(splitTitle, splitOtherTitle);
+        return identityKey.equals(otherTitle.identityKey);
     }
 
-    // It is safe to implement hashCode() this way because there are already precautions
-    // in place to ensure that no two Title instances can be kept in articles in the Article Book
-    // that are equal and yet have different hashcode values.
+    // Titles that differ only in case or spacing are equal, so the hash must be taken over the normalised key
+    // for titles to be usable as keys of hash-based indexes.
     @Override
     public int hashCode() {
-        return fullTitle.hashCode();
+        return identityKey.hashCode();
     }
 }
@@ -16,6 +16,10 @@ public class TitleContainsKeywordsPredicate implements Predicate<Article> {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Article article) {
         return keywords.stream()
@@ -0,0 +1,85 @@
+package seedu.address.model.article;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An inverted index from the words in article titles to the articles containing them.
+ * Words are matched ignoring case, in the same way as {@link TitleContainsKeywordsPredicate}.
+ * Articles are tracked by identity, since drafts with identical fields may coexist in an article book.
+ *
+ * The index must be told about every article added to or removed from the list it mirrors.
+ */
+public class TitleKeywordIndex {
+
+    private final Map<String, Set<Article>> postings = new HashMap<>();
+
+    /**
+     * Adds {@code article} to the posting list of every word in its title.
+     */
+    public void add(Article article) {
+        requireNonNull(article);
+        for (String word : toWords(article.getTitle())) {
+            postings.computeIfAbsent(word, unused -> newArticleSet()).add(article);
+        }
+    }
+
+    /**
+     * Removes {@code article} from the posting list of every word in its title.
+     */
+    public void remove(Article article) {
+        requireNonNull(article);
+        for (String word : toWords(article.getTitle())) {
+            Set<Article> posting = postings.get(word);
+            if (posting != null) {
+                posting.remove(article);
+                if (posting.isEmpty()) {
+                    postings.remove(word);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes all articles from the index.
+     */
+    public void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns the articles whose titles contain any of the {@code keywords}, ignoring case.
+     * The returned set compares articles by identity.
+     */
+    public Set<Article> findAny(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<Article> matches = newArticleSet();
+        for (String keyword : keywords) {
+            Set<Article> posting = postings.get(StringUtil.toCaseFoldedKey(keyword));
+            if (posting != null) {
+                matches.addAll(posting);
+            }
+        }
+        return matches;
+    }
+
+    private static Set<Article> newArticleSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    private static String[] toWords(Title title) {
+        String[] words = title.fullTitle.split("\\s+");
+        for (int i = 0; i < words.length; i++) {
+            words[i] = StringUtil.toCaseFoldedKey(words[i]);
+        }
+        return words;
+    }
+}
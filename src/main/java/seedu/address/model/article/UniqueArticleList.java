@@ -5,28 +5,67 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
 
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import seedu.address.model.person.Person;
+import seedu.address.commons.util.BatchedObservableList;
 
 /**
  * A list of articles that are unique
+ *
+ * Identity checks are answered from indexes that are kept in sync with the list by every mutator:
+ * non-draft articles are indexed by {@code Title}, while drafts, which are only ever the same article
+ * as themselves (see {@link Article#isSameArticle(Article)}), are indexed by reference.
+ * The position of each article is also indexed by its ID, so that articles are found without scanning the list.
  */
 public class UniqueArticleList implements Iterable<Article> {
 
-    private final ObservableList<Article> internalList = FXCollections.observableArrayList();
+    private final BatchedObservableList<Article> internalList = new BatchedObservableList<>();
     private final ObservableList<Article> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /** Number of non-draft articles in the list with each title. */
+    private final Map<Title, Integer> titleIndex = new HashMap<>();
+    /** Number of times each draft article instance occurs in the list. */
+    private final Map<Article, Integer> draftIndex = new IdentityHashMap<>();
+    /** Position of the first article in the list with each ID, rebuilt on first use after articles move. */
+    private final Map<Long, Integer> positionIndex = new HashMap<>();
+    private boolean isPositionIndexStale;
+
     /**
      * Returns true if the list contains an equivalent article as the given argument.
      */
     public boolean contains(Article toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameArticle);
+        if (toCheck.getStatus() == Article.Status.DRAFT) {
+            return draftIndex.containsKey(toCheck);
+        }
+        return titleIndex.containsKey(toCheck.getTitle());
+    }
+
+    /**
+     * Returns the article in the list with the given {@code id}, if any.
+     */
+    public Optional<Article> findById(long id) {
+        Integer position = getPositionIndex().get(id);
+        return position == null ? Optional.empty() : Optional.of(internalList.get(position));
+    }
+
+    /**
+     * Returns the position in the list of the article with the same ID as {@code article}, or -1 if there is none.
+     * Articles keep their ID through edits, so an article is found by ID alone, without comparing the rest of it,
+     * which would load the details of archived articles.
+     */
+    public int indexOf(Article article) {
+        requireNonNull(article);
+        Integer position = getPositionIndex().get(article.getId());
+        return position == null ? -1 : position;
     }
 
     /**
@@ -36,6 +75,10 @@ public class UniqueArticleList implements Iterable<Article> {
     public void add(Article toAdd) {
         requireNonNull(toAdd);
         internalList.add(toAdd);
+        index(toAdd);
+        if (!isPositionIndexStale) {
+            positionIndex.putIfAbsent(toAdd.getId(), internalList.size() - 1);
+        }
     }
 
     /**
@@ -45,9 +88,14 @@ public class UniqueArticleList implements Iterable<Article> {
     public void setArticle(Article target, Article editedArticle) {
         requireAllNonNull(target, editedArticle);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
 
-        internalList.set(index, editedArticle);
+        Article replaced = internalList.set(index, editedArticle);
+        unindex(replaced);
+        index(editedArticle);
+        if (replaced.getId() != editedArticle.getId()) {
+            isPositionIndexStale = true;
+        }
     }
 
     /**
@@ -55,12 +103,17 @@ public class UniqueArticleList implements Iterable<Article> {
      */
     public void remove(Article toRemove) {
         requireNonNull(toRemove);
-        internalList.remove(toRemove);
+        int index = indexOf(toRemove);
+        if (index != -1) {
+            unindex(internalList.remove(index));
+            // The articles after it have all moved up.
+            isPositionIndexStale = true;
+        }
     }
 
     public void setArticles(UniqueArticleList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setArticles(replacement.internalList);
     }
 
     /**
@@ -70,6 +123,8 @@ public class UniqueArticleList implements Iterable<Article> {
     public void setArticles(List<Article> articles) {
         requireAllNonNull(articles);
         internalList.setAll(articles);
+        reindex();
+        isPositionIndexStale = true;
     }
 
     /**
@@ -80,11 +135,30 @@ public class UniqueArticleList implements Iterable<Article> {
         if (PREFIX_DATE.getPrefix().equalsIgnoreCase(prefix)) {
             // Sort by publication date and display most recent articles first.
             internalList.sort(Comparator.comparing(Article::getPublicationDate, Comparator.reverseOrder()));
+            isPositionIndexStale = true;
         } else {
             throw new IllegalArgumentException("Invalid prefix supplied.");
         }
     }
 
+    /**
+     * Holds back the changes to the list from its listeners until the matching {@link #endBatch()}.
+     *
+     * @see BatchedObservableList#beginBatch()
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Tells the listeners of the list of the changes made since the matching {@link #beginBatch()}, as one change.
+     *
+     * @see BatchedObservableList#endBatch()
+     */
+    public void endBatch() {
+        internalList.endBatch();
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -123,43 +197,63 @@ public class UniqueArticleList implements Iterable<Article> {
     }
 
     /**
-     * Returns true if {@code articles} contains only unique persons.
+     * Adds {@code article} to the identity indexes.
      */
-    private boolean articlesAreUnique(List<Article> articles) {
-        for (int i = 0; i < articles.size() - 1; i++) {
-            for (int j = i + 1; j < articles.size(); j++) {
-                if (articles.get(i).isSameArticle(articles.get(j))) {
-                    return false;
-                }
-            }
+    private void index(Article article) {
+        if (article.getStatus() == Article.Status.DRAFT) {
+            draftIndex.merge(article, 1, Integer::sum);
+        } else {
+            titleIndex.merge(article.getTitle(), 1, Integer::sum);
         }
-        return true;
     }
 
     /**
-     * Makes links between articles and persons in the address book.
+     * Removes one occurrence of {@code article} from the identity indexes.
      */
-    public void makeLinks(List<Person> uniquePersonList) {
-        for (Article article : internalList) {
-            article.makeLinks(uniquePersonList);
+    private void unindex(Article article) {
+        if (article.getStatus() == Article.Status.DRAFT) {
+            draftIndex.computeIfPresent(article, (key, count) -> count == 1 ? null : count - 1);
+        } else {
+            titleIndex.computeIfPresent(article.getTitle(), (key, count) -> count == 1 ? null : count - 1);
         }
     }
 
     /**
-     * Makes links between articles and the given person.
+     * Rebuilds the identity indexes from the contents of the list.
      */
-    public void makeLinkPerson(Person person) {
+    private void reindex() {
+        titleIndex.clear();
+        draftIndex.clear();
         for (Article article : internalList) {
-            article.makeLink(person);
+            index(article);
         }
     }
 
     /**
-     * Reestablishes links between articles and the edited person.
+     * Returns the position index, rebuilding it first if articles have moved since it was last used.
      */
-    public void setEditedPerson(Person target, Person editedPerson) {
-        for (Article article : internalList) {
-            article.updateNamesInArticle(target, editedPerson);
+    private Map<Long, Integer> getPositionIndex() {
+        if (isPositionIndexStale) {
+            positionIndex.clear();
+            for (int i = 0; i < internalList.size(); i++) {
+                positionIndex.putIfAbsent(internalList.get(i).getId(), i);
+            }
+            isPositionIndexStale = false;
+        }
+        return positionIndex;
+    }
+
+    /**
+     * Returns true if {@code articles} contains only unique persons.
+     */
+    private boolean articlesAreUnique(List<Article> articles) {
+        for (int i = 0; i < articles.size() - 1; i++) {
+            for (int j = i + 1; j < articles.size(); j++) {
+                if (articles.get(i).isSameArticle(articles.get(j))) {
+                    return false;
+                }
+            }
         }
+        return true;
     }
 }
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -20,6 +22,9 @@ public class Name implements Comparable<Name> {
 
     public final String fullName;
 
+    /** Whitespace- and case-normalised form of the name, used for equality and hashing. */
+    private final String identityKey;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -29,6 +34,7 @@ public class Name implements Comparable<Name> {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        identityKey = StringUtil.toCaseFoldedKey(name);
     }
 
     /**
@@ -49,18 +55,6 @@ public class Name implements Comparable<Name> {
         return this.fullName.compareTo(other.fullName);
     }
 
-    private boolean areSameNames(String[] name, String[] otherName) {
-        if (name.length != otherName.length) {
-            return false;
-        }
-        for (int i = 0; i < name.length; i++) {
-            if (!name[i].equalsIgnoreCase(otherName[i])) {
-                return false;
-            }
-        }
-        return true;
-    }
-
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -73,18 +67,14 @@ public class Name implements Comparable<Name> {
         }
 
         Name otherName = (Name) other;
-        String[] splitName = fullName.split("\\s+");
-        String[] splitOtherName = otherName.fullName.split("\\s+");
-
-        return areSameNames(splitName, splitOtherName);
+        return identityKey.equals(otherName.identityKey);
     }
 
-    // It is safe to implement hashCode() this way because there are already precautions
-    // in place to ensure that no two Name instances can be kept in persons in the Address Book
-    // that are equal and yet have different hashcode values.
+    // Names that differ only in case or spacing are equal, so the hash is taken over the normalised key
+    // to keep it consistent with equals() when names are used as keys of hash-based indexes.
     @Override
     public int hashCode() {
-        return fullName.hashCode();
+        return identityKey.hashCode();
     }
 
 }
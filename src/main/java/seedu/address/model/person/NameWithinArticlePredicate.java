@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
@@ -10,19 +11,22 @@ import seedu.address.model.article.Article;
  */
 public class NameWithinArticlePredicate implements Predicate<Person> {
     private final Article article;
+    private final Set<Long> personIds;
 
     /**
      * Constructs a {@code NameWithinArticlePredicate}.
      *
      * @param article The article to test against.
+     * @param personIds The IDs of the persons linked to {@code article}.
      */
-    public NameWithinArticlePredicate(Article article) {
+    public NameWithinArticlePredicate(Article article, Set<Long> personIds) {
         this.article = article;
+        this.personIds = personIds;
     }
 
     @Override
     public boolean test(Person person) {
-        return article.getPersons().contains(person);
+        return personIds.contains(person.getId());
     }
 
     @Override
@@ -37,7 +41,8 @@ public class NameWithinArticlePredicate implements Predicate<Person> {
         }
 
         NameWithinArticlePredicate otherNameWithinArticlePredicate = (NameWithinArticlePredicate) other;
-        return article.equals(otherNameWithinArticlePredicate.article);
+        return article.equals(otherNameWithinArticlePredicate.article)
+                && personIds.equals(otherNameWithinArticlePredicate.personIds);
     }
 
     @Override
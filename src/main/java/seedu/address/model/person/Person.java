@@ -1,16 +1,13 @@
 package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.commons.util.CollectionUtil.toCompactSet;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
+import seedu.address.commons.util.IdGenerator;
 import seedu.address.commons.util.ToStringBuilder;
-import seedu.address.model.article.Article;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -18,6 +15,10 @@ import seedu.address.model.tag.Tag;
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
 public class Person {
+    private static final IdGenerator idGenerator = new IdGenerator();
+
+    // Stays the same through edits, and is not part of the equality of persons.
+    private final long id;
 
     // Identity fields
     private final Name name;
@@ -26,20 +27,37 @@ public class Person {
 
     // Data fields
     private final Address address;
-    private final Set<Tag> tags = new HashSet<>();
-
-    private List<Article> articles = new ArrayList<>();
+    private final Set<Tag> tags;
 
     /**
-     * Every field must be present and not null.
+     * Every field must be present and not null. The person is given a new ID.
      */
     public Person(Name name, Phone phone, Email email, Address address, Set<Tag> tags) {
+        this(idGenerator.next(), name, phone, email, address, tags);
+    }
+
+    /**
+     * Every field must be present and not null. The person keeps the given ID, such as one read back from storage
+     * or that of the person it is an edited version of.
+     *
+     * @throws IllegalArgumentException if {@code id} is not a valid ID.
+     */
+    public Person(long id, Name name, Phone phone, Email email, Address address, Set<Tag> tags) {
         requireAllNonNull(name, phone, email, address, tags);
+        idGenerator.reserve(id);
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
         this.address = address;
-        this.tags.addAll(tags);
+        this.tags = toCompactSet(tags);
+    }
+
+    /**
+     * Returns the ID of this person, which is unique among the persons of an address book.
+     */
+    public long getId() {
+        return id;
     }
 
     public Name getName() {
@@ -63,11 +81,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
-    }
-
-    public List<Article> getArticles() {
-        return articles;
+        return tags;
     }
 
     /**
@@ -123,14 +137,6 @@ public class Person {
                 .toString();
     }
 
-    public void addArticle(Article article) {
-        articles.add(article);
-    }
-
-    public void setArticles(Person person) {
-        this.articles = person.articles;
-    }
-
     public String getNameString() {
         return name.fullName;
     }
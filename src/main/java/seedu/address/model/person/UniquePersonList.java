@@ -5,11 +5,17 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.BatchedObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -20,22 +26,55 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
- * Supports a minimal set of list operations.
+ * Supports a minimal set of list operations. Persons are also indexed by {@code Name} and by their exact full name,
+ * which are kept in sync by every mutator, so that identity checks and lookups by name do not scan the list.
+ * Likewise, the position of each person is indexed by its ID, so that replacing and removing persons does not
+ * scan the list for them.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final BatchedObservableList<Person> internalList = new BatchedObservableList<>();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Person> nameIndex = new HashMap<>();
+    private final Map<String, Person> fullNameIndex = new HashMap<>();
+    /** Position of the person in the list with each ID, rebuilt on first use after persons move. */
+    private final Map<Long, Integer> positionIndex = new HashMap<>();
+    private boolean isPositionIndexStale;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return nameIndex.containsKey(toCheck.getName());
+    }
+
+    /**
+     * Returns the person in the list with the given {@code name}, if any.
+     */
+    public Optional<Person> findByName(Name name) {
+        requireNonNull(name);
+        return Optional.ofNullable(nameIndex.get(name));
+    }
+
+    /**
+     * Returns the person in the list whose full name is exactly {@code fullName}, if any.
+     * Unlike {@link #findByName(Name)}, the match is case- and whitespace-sensitive.
+     */
+    public Optional<Person> findByFullName(String fullName) {
+        requireNonNull(fullName);
+        return Optional.ofNullable(fullNameIndex.get(fullName));
+    }
+
+    /**
+     * Returns the person in the list with the given {@code id}, if any.
+     */
+    public Optional<Person> findById(long id) {
+        Integer position = getPositionIndex().get(id);
+        return position == null ? Optional.empty() : Optional.of(internalList.get(position));
     }
 
     /**
@@ -48,6 +87,10 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        index(toAdd);
+        if (!isPositionIndexStale) {
+            positionIndex.putIfAbsent(toAdd.getId(), internalList.size() - 1);
+        }
     }
 
     /**
@@ -58,7 +101,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -67,7 +110,12 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        Person replaced = internalList.set(index, editedPerson);
+        unindex(replaced);
+        index(editedPerson);
+        if (replaced.getId() != editedPerson.getId()) {
+            isPositionIndexStale = true;
+        }
     }
 
     /**
@@ -76,14 +124,20 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        unindex(internalList.remove(index));
+        // The persons after it have all moved up.
+        isPositionIndexStale = true;
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        reindex();
+        isPositionIndexStale = true;
     }
 
     /**
@@ -97,20 +151,42 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.setAll(persons);
+        reindex();
+        isPositionIndexStale = true;
     }
 
     /**
      * Sorts the list of persons by the attribute represented by the given prefix.
+     * Sorting only reorders the list, so only the position index is affected.
      */
     public void sortPersons(String prefix) {
         requireNonNull(prefix);
         if (PREFIX_NAME.getPrefix().equalsIgnoreCase(prefix)) {
             internalList.sort(Comparator.comparing(Person::getName));
+            isPositionIndexStale = true;
         } else {
             throw new IllegalArgumentException("Invalid prefix supplied.");
         }
     }
 
+    /**
+     * Holds back the changes to the list from its listeners until the matching {@link #endBatch()}.
+     *
+     * @see BatchedObservableList#beginBatch()
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Tells the listeners of the list of the changes made since the matching {@link #beginBatch()}, as one change.
+     *
+     * @see BatchedObservableList#endBatch()
+     */
+    public void endBatch() {
+        internalList.endBatch();
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -148,15 +224,62 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    /**
+     * Returns the position in the list of a person equal to {@code person}, or -1 if there is none.
+     * The person with the same ID is tried first, so that only persons that are not in the list under their ID,
+     * such as equal copies with an ID of their own, need a scan of the list.
+     */
+    private int indexOf(Person person) {
+        Integer position = getPositionIndex().get(person.getId());
+        if (position != null) {
+            Person found = internalList.get(position);
+            if (found == person || found.equals(person)) {
+                return position;
+            }
+        }
+        return internalList.indexOf(person);
+    }
+
+    /**
+     * Returns the position index, rebuilding it first if persons have moved since it was last used.
+     */
+    private Map<Long, Integer> getPositionIndex() {
+        if (isPositionIndexStale) {
+            positionIndex.clear();
+            for (int i = 0; i < internalList.size(); i++) {
+                positionIndex.putIfAbsent(internalList.get(i).getId(), i);
+            }
+            isPositionIndexStale = false;
+        }
+        return positionIndex;
+    }
+
+    private void index(Person person) {
+        nameIndex.put(person.getName(), person);
+        fullNameIndex.put(person.getNameString(), person);
+    }
+
+    private void unindex(Person person) {
+        nameIndex.remove(person.getName());
+        fullNameIndex.remove(person.getNameString());
+    }
+
+    private void reindex() {
+        nameIndex.clear();
+        fullNameIndex.clear();
+        for (Person person : internalList) {
+            index(person);
+        }
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<Name> names = new HashSet<>();
+        for (Person person : persons) {
+            if (!names.add(person.getName())) {
+                return false;
             }
         }
         return true;
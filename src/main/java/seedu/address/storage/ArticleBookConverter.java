@@ -0,0 +1,78 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyArticleBook;
+
+/**
+ * Converts an article book file between the json and binary formats.
+ * Files whose names end with {@value BinaryArticleBookStorage#BINARY_FILE_EXTENSION} are in the binary format, and
+ * all others are in the json format.
+ *
+ * Usage: {@code java -cp addressbook.jar seedu.address.storage.ArticleBookConverter SOURCE_FILE TARGET_FILE}
+ */
+public class ArticleBookConverter {
+    public static final String MESSAGE_USAGE = "Usage: ArticleBookConverter SOURCE_FILE TARGET_FILE\n"
+            + "Files ending with " + BinaryArticleBookStorage.BINARY_FILE_EXTENSION + " are read and written in the"
+            + " binary format, and all others in the json format.";
+
+    private ArticleBookConverter() {} // prevents instantiation
+
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(2);
+        }
+
+        try {
+            int articleCount = convert(Paths.get(args[0]), Paths.get(args[1]));
+            System.out.println("Converted " + articleCount + " articles from " + args[0] + " to " + args[1]);
+        } catch (DataLoadingException | IOException e) {
+            System.err.println("Could not convert " + args[0] + ": " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Reads the article book at {@code sourcePath} and saves it to {@code targetPath}, each in the format given by
+     * its file name. Returns the number of articles converted.
+     *
+     * @throws DataLoadingException if the source file is missing or could not be loaded.
+     * @throws IOException if the target file could not be written.
+     */
+    public static int convert(Path sourcePath, Path targetPath) throws DataLoadingException, IOException {
+        Optional<ReadOnlyArticleBook> articleBook = getStorage(sourcePath).readArticleBook();
+        if (!articleBook.isPresent()) {
+            throw new DataLoadingException(new IOException(sourcePath + " does not exist"));
+        }
+        getStorage(targetPath).saveArticleBook(articleBook.get());
+        return articleBook.get().getArticleList().size();
+    }
+
+    /**
+     * Converts the article book at {@code sourcePath} as in {@link #convert(Path, Path)}, but only if there is no
+     * file at {@code targetPath} yet and there is one at {@code sourcePath}. Returns true if it was converted.
+     *
+     * @throws DataLoadingException if the source file could not be loaded.
+     * @throws IOException if the target file could not be written.
+     */
+    public static boolean convertIfMissing(Path sourcePath, Path targetPath) throws DataLoadingException, IOException {
+        if (Files.exists(targetPath) || !Files.exists(sourcePath)) {
+            return false;
+        }
+        convert(sourcePath, targetPath);
+        return true;
+    }
+
+    private static ArticleBookStorage getStorage(Path filePath) {
+        if (filePath.getFileName().toString().endsWith(BinaryArticleBookStorage.BINARY_FILE_EXTENSION)) {
+            return new BinaryArticleBookStorage(filePath);
+        }
+        return new JsonArticleBookStorage(filePath);
+    }
+}
@@ -40,4 +40,12 @@ public interface ArticleBookStorage {
      * @see #saveArticleBook(ReadOnlyArticleBook)
      */
     void saveArticleBook(ReadOnlyArticleBook articleBook, Path filePath) throws IOException;
+
+    /**
+     * Returns true if changes to the article book are written to storage as they are made, so that saving the
+     * article book afterwards is cheap and must happen before any later change.
+     */
+    default boolean isJournaling() {
+        return false;
+    }
 }
@@ -0,0 +1,594 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.FileUtil.SyncPolicy;
+import seedu.address.commons.util.IdGenerator;
+import seedu.address.model.ArticleBook;
+import seedu.address.model.ReadOnlyArticleBook;
+import seedu.address.model.article.Article;
+import seedu.address.model.article.Author;
+import seedu.address.model.article.Link;
+import seedu.address.model.article.Outlet;
+import seedu.address.model.article.PublicationDate;
+import seedu.address.model.article.Source;
+import seedu.address.model.article.Title;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access ArticleBook data stored in a compact binary file.
+ *
+ * The file starts with one dictionary each of the author, source, tag and outlet names used by any article, so that
+ * articles refer to names by their position in a dictionary instead of repeating them. Publication dates are stored
+ * as seconds since the epoch, and statuses as a single byte. Each article record starts with the ID of the article,
+ * except in files of the first format version, whose articles are given new IDs when read.
+ *
+ * Files are read through a memory mapping. Archived articles, which are rarely looked at, keep only their title,
+ * tags, publication date and status in memory, and are read from the mapping in full only once something needs the
+ * rest of them. Saving copies the records of archived articles that were never needed straight from the mapping.
+ * What is mapped is a private copy of the file, as some platforms, such as Windows, cannot replace or delete a file
+ * while it is mapped, and the data file itself is replaced on every save.
+ */
+public class BinaryArticleBookStorage implements ArticleBookStorage {
+    public static final String BINARY_FILE_EXTENSION = ".bin";
+    public static final String MAPPED_COPY_SUFFIX = ".archive";
+
+    static final int MAGIC_NUMBER = 0x41524231;
+    static final byte FORMAT_VERSION = 2;
+    // The last format version without article IDs, which can still be read.
+    private static final byte FORMAT_VERSION_WITHOUT_IDS = 1;
+    // Longer strings can only come from a corrupted file, and must not be allocated.
+    private static final int MAX_STRING_BYTES = 1 << 24;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryArticleBookStorage.class);
+
+    private Path filePath;
+    private SyncPolicy syncPolicy;
+
+    // Files whose backup holds the only good copy of the data, as the files could neither be loaded nor restored.
+    private final Set<Path> filesLoadedFromBackup = ConcurrentHashMap.newKeySet();
+
+    public BinaryArticleBookStorage(Path filePath) {
+        this(filePath, SyncPolicy.FILE);
+    }
+
+    /**
+     * Creates a {@code BinaryArticleBookStorage} that saves to {@code filePath}, and waits for each save to reach the
+     * disk as required by {@code syncPolicy}.
+     */
+    public BinaryArticleBookStorage(Path filePath, SyncPolicy syncPolicy) {
+        this.filePath = filePath;
+        this.syncPolicy = syncPolicy;
+    }
+
+    /**
+     * Returns the path of the binary file that goes with the json file at {@code jsonFilePath}.
+     */
+    public static Path toBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        if (fileName.endsWith(".json")) {
+            fileName = fileName.substring(0, fileName.length() - ".json".length());
+        }
+        return jsonFilePath.resolveSibling(fileName + BINARY_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the path of the private copy of the binary file at {@code filePath} that is mapped while reading it.
+     */
+    public static Path getMappedCopyPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + MAPPED_COPY_SUFFIX);
+    }
+
+    @Override
+    public Path getArticleBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyArticleBook> readArticleBook() throws DataLoadingException {
+        return readArticleBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readArticleBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyArticleBook> readArticleBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(readArticleBookFile(filePath));
+        } catch (DataLoadingException e) {
+            Path backupPath = FileUtil.getBackupPath(filePath);
+            if (!Files.exists(backupPath)) {
+                throw e;
+            }
+            logger.warning("Data file at " + filePath + " could not be loaded."
+                    + " Falling back to its previous version at " + backupPath);
+            ArticleBook articleBook = readArticleBookFile(backupPath);
+            try {
+                // Later saves must back up good data, not the unreadable file.
+                FileUtil.restoreFromBackup(filePath, syncPolicy);
+            } catch (IOException ioe) {
+                logger.warning("Could not restore " + filePath + " from " + backupPath + ": " + ioe);
+                filesLoadedFromBackup.add(filePath);
+            }
+            return Optional.of(articleBook);
+        }
+    }
+
+    private ArticleBook readArticleBookFile(Path filePath) throws DataLoadingException {
+        try {
+            return readArticleBook(mapCopyOf(filePath));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    /**
+     * Maps a private copy of the file at {@code filePath}, which is left in place for later reads of the same file.
+     * The copy is only rewritten when the file has changed since it was made.
+     */
+    private static ByteBuffer mapCopyOf(Path filePath) throws IOException {
+        if (Files.size(filePath) > Integer.MAX_VALUE) {
+            throw new IOException("File of " + Files.size(filePath) + " bytes is too large to be mapped");
+        }
+        Path copyPath = getMappedCopyPath(filePath);
+        try {
+            if (!hasSameContents(filePath, copyPath)) {
+                FileUtil.writeAtomically(copyPath, out -> Files.copy(filePath, out), SyncPolicy.NONE, false);
+            }
+        } catch (IOException ioe) {
+            // The copy may still be mapped by an earlier read of a different version of the file.
+            logger.warning("Could not copy " + filePath + " to " + copyPath + ", reading it into memory: " + ioe);
+            return ByteBuffer.wrap(Files.readAllBytes(filePath));
+        }
+        try (FileChannel channel = FileChannel.open(copyPath, StandardOpenOption.READ)) {
+            // The mapping outlives the channel, and holds the archived articles until they are needed.
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private static boolean hasSameContents(Path file, Path otherFile) throws IOException {
+        if (!Files.exists(otherFile) || Files.size(file) != Files.size(otherFile)) {
+            return false;
+        }
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file));
+                InputStream otherIn = new BufferedInputStream(Files.newInputStream(otherFile))) {
+            int b;
+            do {
+                b = in.read();
+                if (b != otherIn.read()) {
+                    return false;
+                }
+            } while (b != -1);
+            return true;
+        }
+    }
+
+    @Override
+    public void saveArticleBook(ReadOnlyArticleBook articleBook) throws IOException {
+        saveArticleBook(articleBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveArticleBook(ReadOnlyArticleBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveArticleBook(ReadOnlyArticleBook articleBook, Path filePath) throws IOException {
+        requireNonNull(articleBook);
+        requireNonNull(filePath);
+
+        // Replace the backup only if it is not the last good copy of the data.
+        boolean isBackedUp = !filesLoadedFromBackup.remove(filePath);
+        FileUtil.writeAtomically(filePath, out -> writeArticleBook(articleBook, out), syncPolicy, isBackedUp);
+    }
+
+    //// format
+
+    private static void writeArticleBook(ReadOnlyArticleBook articleBook, OutputStream out) throws IOException {
+        List<Article> articles = articleBook.getArticleList();
+        // Archived articles still only in the file they were read from are copied over as they are, so that saving
+        // does not load them. Their references stay valid as the dictionaries of that file are written first.
+        MappedFile copiedFile = findUnloadedArticleFile(articles);
+        boolean[] isCopied = new boolean[articles.size()];
+        Map<String, Integer> authorIds = new LinkedHashMap<>();
+        Map<String, Integer> sourceIds = new LinkedHashMap<>();
+        Map<String, Integer> tagIds = new LinkedHashMap<>();
+        Map<String, Integer> outletIds = new LinkedHashMap<>();
+        if (copiedFile != null) {
+            addToDictionary(authorIds, copiedFile.authors, author -> author.authorName);
+            addToDictionary(sourceIds, copiedFile.sources, source -> source.sourceName);
+            addToDictionary(tagIds, copiedFile.tags, tag -> tag.tagName);
+            addToDictionary(outletIds, copiedFile.outlets, outlet -> outlet.outletName);
+        }
+        for (int i = 0; i < articles.size(); i++) {
+            Article article = articles.get(i);
+            // Decided once, as the article may be loaded by the UI while it is being saved in the background.
+            isCopied[i] = article instanceof ArchivedArticle && ((ArchivedArticle) article).isUnloadedFrom(copiedFile);
+            if (isCopied[i]) {
+                continue;
+            }
+            addToDictionary(authorIds, article.getAuthors(), author -> author.authorName);
+            addToDictionary(sourceIds, article.getSources(), source -> source.sourceName);
+            addToDictionary(tagIds, article.getTags(), tag -> tag.tagName);
+            addToDictionary(outletIds, article.getOutlets(), outlet -> outlet.outletName);
+        }
+
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(MAGIC_NUMBER);
+        data.writeByte(FORMAT_VERSION);
+        writeDictionary(data, authorIds);
+        writeDictionary(data, sourceIds);
+        writeDictionary(data, tagIds);
+        writeDictionary(data, outletIds);
+
+        data.writeInt(articles.size());
+        for (int i = 0; i < articles.size(); i++) {
+            Article article = articles.get(i);
+            if (isCopied[i]) {
+                ((ArchivedArticle) article).copyRecord(data);
+                continue;
+            }
+            data.writeLong(article.getId());
+            writeString(data, article.getTitle().fullTitle);
+            writeReferences(data, authorIds, article.getAuthors(), author -> author.authorName);
+            writeReferences(data, sourceIds, article.getSources(), source -> source.sourceName);
+            writeReferences(data, tagIds, article.getTags(), tag -> tag.tagName);
+            writeReferences(data, outletIds, article.getOutlets(), outlet -> outlet.outletName);
+            data.writeLong(article.getPublicationDate().date.toEpochSecond(ZoneOffset.UTC));
+            data.writeByte(article.getStatus().ordinal());
+            writeString(data, article.getLink().link);
+        }
+        data.flush();
+    }
+
+    private static MappedFile findUnloadedArticleFile(List<Article> articles) {
+        for (Article article : articles) {
+            // Records in files of an older format version have to be written out afresh.
+            if (article instanceof ArchivedArticle && !article.isDetailsLoaded()
+                    && ((ArchivedArticle) article).file.formatVersion == FORMAT_VERSION) {
+                return ((ArchivedArticle) article).file;
+            }
+        }
+        return null;
+    }
+
+    private static ArticleBook readArticleBook(ByteBuffer buffer) throws IOException, IllegalValueException {
+        try {
+            return readArticleBook(new MappedFile(buffer));
+        } catch (BufferUnderflowException bue) {
+            throw new IOException("Unexpected end of binary article book file", bue);
+        }
+    }
+
+    private static ArticleBook readArticleBook(MappedFile file) throws IOException, IllegalValueException {
+        ByteBuffer data = file.at(file.articlesOffset);
+        ArticleBook articleBook = new ArticleBook();
+        int articleCount = readCount(data);
+        for (int i = 0; i < articleCount; i++) {
+            int recordOffset = data.position();
+            long id = file.hasIds() ? data.getLong() : 0;
+            if (file.hasIds() && !IdGenerator.isValidId(id)) {
+                throw new IllegalValueException(JsonAdaptedArticle.MESSAGE_INVALID_ID);
+            }
+            String title = readString(data);
+            if (!Title.isValidTitle(title)) {
+                throw new IllegalValueException(Title.MESSAGE_CONSTRAINTS);
+            }
+            int detailsOffset = data.position();
+            skipReferences(data, file.authors);
+            skipReferences(data, file.sources);
+            Set<Tag> articleTags = readReferences(data, file.tags);
+            skipReferences(data, file.outlets);
+            LocalDateTime publicationDate = LocalDateTime.ofEpochSecond(data.getLong(), 0, ZoneOffset.UTC);
+            int statusOrdinal = Byte.toUnsignedInt(data.get());
+            if (statusOrdinal >= Article.Status.values().length) {
+                throw new IllegalValueException("Unknown article status " + statusOrdinal);
+            }
+            Article.Status status = Article.Status.values()[statusOrdinal];
+            String link = readString(data);
+            if (!Link.isValidLink(link)) {
+                throw new IllegalValueException(Link.MESSAGE_CONSTRAINTS);
+            }
+
+            Article article;
+            if (status == Article.Status.ARCHIVED) {
+                // Only what the article book indexes is kept in memory until the rest of the article is needed.
+                article = file.hasIds()
+                        ? new ArchivedArticle(file, recordOffset, data.position() - recordOffset, id,
+                                new Title(title), articleTags, new PublicationDate(publicationDate))
+                        : new ArchivedArticle(file, recordOffset, data.position() - recordOffset,
+                                new Title(title), articleTags, new PublicationDate(publicationDate));
+            } else {
+                ByteBuffer details = file.at(detailsOffset);
+                Set<Author> articleAuthors = readReferences(details, file.authors);
+                Set<Source> articleSources = readReferences(details, file.sources);
+                skipReferences(details, file.tags);
+                Set<Outlet> articleOutlets = readReferences(details, file.outlets);
+                article = file.hasIds()
+                        ? new Article(id, new Title(title), articleAuthors, articleSources, articleTags,
+                                articleOutlets, new PublicationDate(publicationDate), status, new Link(link))
+                        : new Article(new Title(title), articleAuthors, articleSources, articleTags,
+                                articleOutlets, new PublicationDate(publicationDate), status, new Link(link));
+            }
+            if (articleBook.hasArticle(article)) {
+                throw new IllegalValueException(JsonSerializableArticleBook.MESSAGE_DUPLICATE_ARTICLE);
+            }
+            if (articleBook.findArticleById(article.getId()).isPresent()) {
+                throw new IllegalValueException(JsonSerializableArticleBook.MESSAGE_DUPLICATE_ID);
+            }
+            articleBook.addArticle(article);
+        }
+        return articleBook;
+    }
+
+    private static <T> void addToDictionary(Map<String, Integer> ids, Collection<T> items,
+            Function<T, String> toName) {
+        for (T item : items) {
+            ids.putIfAbsent(toName.apply(item), ids.size());
+        }
+    }
+
+    private static void writeDictionary(DataOutputStream data, Map<String, Integer> ids) throws IOException {
+        data.writeInt(ids.size());
+        for (String name : ids.keySet()) {
+            writeString(data, name);
+        }
+    }
+
+    private static <T> List<T> readDictionary(ByteBuffer data, Predicate<String> isValidName,
+            String messageConstraints, Function<String, T> toItem) throws IOException, IllegalValueException {
+        int size = readCount(data);
+        List<T> items = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            String name = readString(data);
+            if (!isValidName.test(name)) {
+                throw new IllegalValueException(messageConstraints);
+            }
+            items.add(toItem.apply(name));
+        }
+        return items;
+    }
+
+    private static <T> void writeReferences(DataOutputStream data, Map<String, Integer> ids, Collection<T> items,
+            Function<T, String> toName) throws IOException {
+        data.writeInt(items.size());
+        for (T item : items) {
+            data.writeInt(ids.get(toName.apply(item)));
+        }
+    }
+
+    private static <T> Set<T> readReferences(ByteBuffer data, List<T> dictionary) throws IOException {
+        int count = readCount(data);
+        Set<T> items = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            items.add(dictionary.get(readReference(data, dictionary)));
+        }
+        return items;
+    }
+
+    private static void skipReferences(ByteBuffer data, List<?> dictionary) throws IOException {
+        int count = readCount(data);
+        for (int i = 0; i < count; i++) {
+            readReference(data, dictionary);
+        }
+    }
+
+    private static int readReference(ByteBuffer data, List<?> dictionary) throws IOException {
+        int id = data.getInt();
+        if (id < 0 || id >= dictionary.size()) {
+            throw new IOException("Reference to unknown dictionary entry " + id);
+        }
+        return id;
+    }
+
+    private static void writeString(DataOutputStream data, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        data.writeInt(bytes.length);
+        data.write(bytes);
+    }
+
+    private static String readString(ByteBuffer data) throws IOException {
+        int length = readCount(data);
+        if (length > MAX_STRING_BYTES || length > data.remaining()) {
+            throw new IOException("String of " + length + " bytes is too long");
+        }
+        byte[] bytes = new byte[length];
+        data.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int readCount(ByteBuffer data) throws IOException {
+        int count = data.getInt();
+        if (count < 0) {
+            throw new IOException("Negative count " + count);
+        }
+        return count;
+    }
+
+    /**
+     * A binary article book file mapped into memory, together with its dictionaries.
+     */
+    private static class MappedFile {
+        private final ByteBuffer buffer;
+        private final byte formatVersion;
+        private final List<Author> authors;
+        private final List<Source> sources;
+        private final List<Tag> tags;
+        private final List<Outlet> outlets;
+        private final int articlesOffset;
+
+        /**
+         * Reads the header and dictionaries of the binary article book file mapped into {@code buffer}.
+         */
+        MappedFile(ByteBuffer buffer) throws IOException, IllegalValueException {
+            this.buffer = buffer;
+            ByteBuffer data = at(0);
+            if (data.getInt() != MAGIC_NUMBER) {
+                throw new IOException("Not a binary article book file");
+            }
+            formatVersion = data.get();
+            if (formatVersion != FORMAT_VERSION && formatVersion != FORMAT_VERSION_WITHOUT_IDS) {
+                throw new IOException("Unsupported binary article book format version " + formatVersion);
+            }
+            authors = readDictionary(data, Author::isValidAuthorName, Author.MESSAGE_CONSTRAINTS, Author::of);
+            sources = readDictionary(data, Source::isValidSourceName, Source.MESSAGE_CONSTRAINTS, Source::of);
+            tags = readDictionary(data, Tag::isValidTagName, Tag.MESSAGE_CONSTRAINTS, Tag::of);
+            outlets = readDictionary(data, Outlet::isValidOutletName, Outlet.MESSAGE_CONSTRAINTS, Outlet::of);
+            articlesOffset = data.position();
+        }
+
+        /**
+         * Returns true if the article records of the file start with the ID of the article.
+         */
+        boolean hasIds() {
+            return formatVersion != FORMAT_VERSION_WITHOUT_IDS;
+        }
+
+        /**
+         * Returns a view of the file positioned at {@code offset}, which can be read independently of other views.
+         */
+        ByteBuffer at(int offset) {
+            ByteBuffer view = buffer.duplicate();
+            view.position(offset);
+            return view;
+        }
+    }
+
+    /**
+     * An archived article whose authors, sources, outlets and link are only read from its mapped file when needed.
+     * Its record in that file, which has been fully checked while reading the file, is found by its offset.
+     */
+    private static class ArchivedArticle extends Article {
+        private final MappedFile file;
+        private final int recordOffset;
+        private final int recordLength;
+
+        ArchivedArticle(MappedFile file, int recordOffset, int recordLength, long id, Title title, Set<Tag> tags,
+                PublicationDate publicationDate) {
+            super(id, title, tags, publicationDate, Status.ARCHIVED);
+            this.file = file;
+            this.recordOffset = recordOffset;
+            this.recordLength = recordLength;
+        }
+
+        /**
+         * Creates an archived article with a new ID, for files without IDs.
+         */
+        ArchivedArticle(MappedFile file, int recordOffset, int recordLength, Title title, Set<Tag> tags,
+                PublicationDate publicationDate) {
+            super(title, tags, publicationDate, Status.ARCHIVED);
+            this.file = file;
+            this.recordOffset = recordOffset;
+            this.recordLength = recordLength;
+        }
+
+        @Override
+        protected void loadDetails() {
+            try {
+                ByteBuffer data = atDetails();
+                Set<Author> authors = readReferences(data, file.authors);
+                Set<Source> sources = readReferences(data, file.sources);
+                skipReferences(data, file.tags);
+                Set<Outlet> outlets = readReferences(data, file.outlets);
+                data.position(data.position() + Long.BYTES + Byte.BYTES);
+                setDetails(authors, sources, outlets, new Link(readString(data)));
+            } catch (IOException ioe) {
+                throw new UncheckedIOException(ioe);
+            }
+        }
+
+        @Override
+        protected boolean mayNamePerson(String fullName) {
+            try {
+                ByteBuffer data = atDetails();
+                for (int count = readCount(data); count > 0; count--) {
+                    if (file.authors.get(readReference(data, file.authors)).authorName.equals(fullName)) {
+                        return true;
+                    }
+                }
+                for (int count = readCount(data); count > 0; count--) {
+                    if (file.sources.get(readReference(data, file.sources)).sourceName.equals(fullName)) {
+                        return true;
+                    }
+                }
+                return false;
+            } catch (IOException ioe) {
+                throw new UncheckedIOException(ioe);
+            }
+        }
+
+        @Override
+        protected boolean hasSameDetailsSource(Article other) {
+            return other instanceof ArchivedArticle && ((ArchivedArticle) other).file == file
+                    && ((ArchivedArticle) other).recordOffset == recordOffset;
+        }
+
+        boolean isUnloadedFrom(MappedFile file) {
+            return !isDetailsLoaded() && this.file == file;
+        }
+
+        void copyRecord(DataOutputStream data) throws IOException {
+            byte[] record = new byte[recordLength];
+            file.at(recordOffset).get(record);
+            data.write(record);
+        }
+
+        private ByteBuffer atDetails() throws IOException {
+            ByteBuffer data = file.at(recordOffset);
+            if (file.hasIds()) {
+                data.position(data.position() + Long.BYTES);
+            }
+            int titleLength = readCount(data);
+            data.position(data.position() + titleLength);
+            return data;
+        }
+    }
+}
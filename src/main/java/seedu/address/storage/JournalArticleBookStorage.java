@@ -0,0 +1,376 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.FileUtil.SyncPolicy;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ArticleBook;
+import seedu.address.model.ArticleBookListener;
+import seedu.address.model.ReadOnlyArticleBook;
+import seedu.address.model.article.Article;
+
+/**
+ * A class to access ArticleBook data stored as a json snapshot plus an append-only journal of later changes.
+ *
+ * The snapshot has the same format as the file of {@link JsonArticleBookStorage}, plus the sequence number of the
+ * last change it includes. Once {@link #startJournal(ReadOnlyArticleBook)} is called, every change to that article
+ * book is appended as one line of JSON to a journal file next to the snapshot, instead of rewriting the snapshot.
+ * After enough changes, a new snapshot is written in the background and the journal is cut down to the changes made
+ * since. Reading replays the journal on top of the snapshot.
+ *
+ * Snapshots are replaced atomically, and the previous snapshot is kept as a backup. If the snapshot cannot be read,
+ * the backup is read instead, as long as the journal still holds every change made since the backup.
+ */
+public class JournalArticleBookStorage implements ArticleBookStorage, ArticleBookListener {
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalArticleBookStorage.class);
+
+    private final Path filePath;
+    private final Path journalPath;
+    private final int compactionThreshold;
+    private final SyncPolicy syncPolicy;
+    private final ExecutorService compactor;
+    private final AtomicBoolean isCompacting = new AtomicBoolean();
+
+    // Guards the snapshot and journal files, and snapshotSequence.
+    private final Object fileLock = new Object();
+    private long snapshotSequence;
+
+    // Snapshots whose backup holds the only good copy of the data, as they could neither be loaded nor restored.
+    private final Set<Path> filesLoadedFromBackup = ConcurrentHashMap.newKeySet();
+
+    // Only used from the thread that changes the journaled article book.
+    private ReadOnlyArticleBook journaledBook;
+    private long sequence;
+    private int changesSinceSnapshot;
+    private IOException journalError;
+
+    public JournalArticleBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournalArticleBookStorage} that writes a new snapshot every {@code compactionThreshold}
+     * changes.
+     */
+    public JournalArticleBookStorage(Path filePath, int compactionThreshold) {
+        this(filePath, compactionThreshold, SyncPolicy.FILE);
+    }
+
+    /**
+     * Creates a {@code JournalArticleBookStorage} that writes a new snapshot every {@code compactionThreshold}
+     * changes, and waits for each snapshot to reach the disk as required by {@code syncPolicy}.
+     */
+    public JournalArticleBookStorage(Path filePath, int compactionThreshold, SyncPolicy syncPolicy) {
+        requireNonNull(filePath);
+        requireNonNull(syncPolicy);
+        this.filePath = filePath;
+        this.journalPath = getJournalPath(filePath);
+        this.compactionThreshold = compactionThreshold;
+        this.syncPolicy = syncPolicy;
+        this.compactor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "article-journal-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns the path of the journal kept next to the snapshot at {@code filePath}.
+     */
+    public static Path getJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getArticleBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Starts appending every change to {@code articleBook} to the journal.
+     * {@code articleBook} must hold exactly what is stored, e.g. because it was just read or saved.
+     * Changes are only reported if this storage is also registered as a listener of {@code articleBook}.
+     */
+    public void startJournal(ReadOnlyArticleBook articleBook) {
+        requireNonNull(articleBook);
+        journaledBook = articleBook;
+        changesSinceSnapshot = 0;
+    }
+
+    @Override
+    public boolean isJournaling() {
+        return journaledBook != null;
+    }
+
+    @Override
+    public Optional<ReadOnlyArticleBook> readArticleBook() throws DataLoadingException {
+        return readArticleBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readArticleBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyArticleBook> readArticleBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath) && !Files.exists(getJournalPath(filePath))) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(readArticleBook(filePath, filePath));
+        } catch (DataLoadingException e) {
+            Path backupPath = FileUtil.getBackupPath(filePath);
+            if (!Files.exists(backupPath)) {
+                throw e;
+            }
+            logger.warning("Data file at " + filePath + " could not be loaded."
+                    + " Falling back to its previous version at " + backupPath);
+            ArticleBook articleBook = readArticleBook(backupPath, filePath);
+            try {
+                // Later snapshots must back up good data, not the unreadable file.
+                FileUtil.restoreFromBackup(filePath, syncPolicy);
+            } catch (IOException ioe) {
+                logger.warning("Could not restore " + filePath + " from " + backupPath + ": " + ioe);
+                filesLoadedFromBackup.add(filePath);
+            }
+            return Optional.of(articleBook);
+        }
+    }
+
+    /**
+     * Reads the snapshot at {@code snapshotPath}, if any, and replays on top of it the journal of the snapshot at
+     * {@code filePath}.
+     */
+    private ArticleBook readArticleBook(Path snapshotPath, Path filePath) throws DataLoadingException {
+        Path journalPath = getJournalPath(filePath);
+        Optional<JsonArticleBookJournalSnapshot> snapshot = JsonUtil.readJsonFile(
+                snapshotPath, JsonArticleBookJournalSnapshot.class);
+
+        try {
+            ArticleBook articleBook = snapshot.isPresent() ? snapshot.get().toModelType() : new ArticleBook();
+            long lastSequence = snapshot.map(JsonArticleBookJournalSnapshot::getSequence).orElse(0L);
+            List<String> lines = Files.exists(journalPath)
+                    ? Files.readAllLines(journalPath, StandardCharsets.UTF_8)
+                    : new ArrayList<>();
+            for (int i = 0; i < lines.size(); i++) {
+                if (lines.get(i).isBlank()) {
+                    continue;
+                }
+                JsonAdaptedArticleBookChange change;
+                try {
+                    change = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedArticleBookChange.class);
+                } catch (IOException e) {
+                    if (i < lines.size() - 1) {
+                        throw e;
+                    }
+                    // Only the last change can be cut short, by a crash while it was being appended. Drop it, so
+                    // that later changes are appended after the last complete one.
+                    logger.warning("Dropping incomplete last change in " + journalPath);
+                    List<String> completeLines = lines.subList(0, i);
+                    synchronized (fileLock) {
+                        FileUtil.writeToFile(journalPath, completeLines.isEmpty()
+                                ? "" : String.join("\n", completeLines) + "\n");
+                    }
+                    break;
+                }
+                if (change.getSequence() > lastSequence + 1) {
+                    // Such as when reading an older snapshot than the one the journal was cut down for.
+                    throw new IllegalValueException("The journal " + journalPath + " is missing the changes after "
+                            + lastSequence);
+                }
+                if (change.getSequence() > lastSequence) {
+                    change.applyTo(articleBook);
+                    lastSequence = change.getSequence();
+                }
+            }
+            if (filePath.equals(this.filePath)) {
+                sequence = Math.max(sequence, lastSequence);
+            }
+            return articleBook;
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + snapshotPath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from journal " + journalPath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    @Override
+    public void saveArticleBook(ReadOnlyArticleBook articleBook) throws IOException {
+        saveArticleBook(articleBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveArticleBook(ReadOnlyArticleBook)}.
+     * Saving the journaled article book writes nothing, as its changes are already in the journal, unless appending
+     * to the journal failed. Otherwise a full snapshot of {@code articleBook} is written and the journal is cleared.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public void saveArticleBook(ReadOnlyArticleBook articleBook, Path filePath) throws IOException {
+        requireNonNull(articleBook);
+        requireNonNull(filePath);
+
+        boolean isJournaledBook = articleBook == journaledBook && filePath.equals(this.filePath);
+        if (isJournaledBook && journalError == null) {
+            return;
+        }
+
+        byte[] snapshot = toJsonBytes(sequence, articleBook.getArticleList());
+        synchronized (fileLock) {
+            writeSnapshot(filePath, snapshot);
+            Files.deleteIfExists(getJournalPath(filePath));
+            if (filePath.equals(this.filePath)) {
+                snapshotSequence = sequence;
+            }
+        }
+        if (isJournaledBook) {
+            journalError = null;
+            changesSinceSnapshot = 0;
+        }
+    }
+
+    //// journal appends
+
+    @Override
+    public void articleAdded(Article article) {
+        append(JsonAdaptedArticleBookChange.added(++sequence, article));
+    }
+
+    @Override
+    public void articleSet(int index, Article article) {
+        append(JsonAdaptedArticleBookChange.set(++sequence, index, article));
+    }
+
+    @Override
+    public void articleRemoved(int index) {
+        append(JsonAdaptedArticleBookChange.removed(++sequence, index));
+    }
+
+    @Override
+    public void articlesSorted(String prefix) {
+        append(JsonAdaptedArticleBookChange.sorted(++sequence, prefix));
+    }
+
+    @Override
+    public void articlesReset(List<Article> articles) {
+        append(JsonAdaptedArticleBookChange.reset(++sequence, articles));
+    }
+
+    private void append(JsonAdaptedArticleBookChange change) {
+        if (journaledBook == null || journalError != null) {
+            // After a failed append, the journal may only be extended once a full snapshot has been saved.
+            return;
+        }
+        try {
+            byte[] line = (JsonUtil.toCompactJsonString(change) + "\n").getBytes(StandardCharsets.UTF_8);
+            synchronized (fileLock) {
+                FileUtil.createParentDirsOfFile(journalPath);
+                Files.write(journalPath, line, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+        } catch (IOException e) {
+            logger.warning("Could not append to journal " + journalPath + ": " + e);
+            journalError = e;
+            return;
+        }
+        changesSinceSnapshot++;
+        if (changesSinceSnapshot >= compactionThreshold) {
+            compactInBackground();
+        }
+    }
+
+    //// compaction
+
+    /**
+     * Writes a snapshot of the journaled article book on a background thread, then drops the changes it includes
+     * from the journal.
+     */
+    private void compactInBackground() {
+        if (!isCompacting.compareAndSet(false, true)) {
+            return;
+        }
+        long compactedSequence = sequence;
+        List<Article> articles = new ArrayList<>(journaledBook.getArticleList());
+        long compactedJournalLength;
+        try {
+            synchronized (fileLock) {
+                compactedJournalLength = Files.size(journalPath);
+            }
+        } catch (IOException e) {
+            logger.warning("Could not compact journal " + journalPath + ": " + e);
+            isCompacting.set(false);
+            return;
+        }
+        changesSinceSnapshot = 0;
+
+        compactor.execute(() -> {
+            try {
+                compact(compactedSequence, articles, compactedJournalLength);
+            } catch (IOException e) {
+                // The journal is left as it was, so nothing is lost.
+                logger.warning("Could not compact journal " + journalPath + ": " + e);
+            } finally {
+                isCompacting.set(false);
+            }
+        });
+    }
+
+    private void compact(long compactedSequence, List<Article> articles, long compactedJournalLength)
+            throws IOException {
+        byte[] snapshot = toJsonBytes(compactedSequence, articles);
+        synchronized (fileLock) {
+            if (compactedSequence <= snapshotSequence) {
+                // A newer snapshot was saved in the meantime.
+                return;
+            }
+            byte[] journal = Files.readAllBytes(journalPath);
+            // Changes left in the journal that the new snapshot already includes are skipped when reading, so
+            // a crash between these two steps loses nothing.
+            writeSnapshot(filePath, snapshot);
+            snapshotSequence = compactedSequence;
+            FileUtil.writeAtomically(journalPath, out -> out.write(journal, (int) compactedJournalLength,
+                    journal.length - (int) compactedJournalLength), syncPolicy, false);
+        }
+        logger.fine("Compacted journal " + journalPath + " up to change " + compactedSequence);
+    }
+
+    private static byte[] toJsonBytes(long sequence, List<Article> articles) throws IOException {
+        return JsonUtil.toJsonString(JsonArticleBookJournalSnapshot.of(sequence, articles))
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void writeSnapshot(Path filePath, byte[] snapshot) throws IOException {
+        // Replace the backup only if it is not the last good copy of the data.
+        boolean isBackedUp = !filesLoadedFromBackup.remove(filePath);
+        FileUtil.writeAtomically(filePath, out -> out.write(snapshot), syncPolicy, isBackedUp);
+    }
+}
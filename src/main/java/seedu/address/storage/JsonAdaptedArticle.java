@@ -13,6 +13,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.IdGenerator;
 import seedu.address.model.article.Article;
 import seedu.address.model.article.Author;
 import seedu.address.model.article.Link;
@@ -26,6 +27,10 @@ import seedu.address.model.tag.Tag;
  * Jackson-friendly version of {@link Article}.
  */
 public class JsonAdaptedArticle {
+    public static final String MESSAGE_INVALID_ID = "Article's ID must be a positive number";
+
+    // Missing from files saved before articles had IDs, in which case the article is given a new one.
+    private final Long id;
     private final String title;
     private final List<JsonAdaptedAuthor> authors = new ArrayList<>();
     //Should be able to be null
@@ -39,6 +44,7 @@ public class JsonAdaptedArticle {
     /**
      * Construct a {@code JsonAdaptedArticle} with the given article details.
      *
+     * @param id
      * @param title
      * @param authors
      * @param sources
@@ -49,7 +55,8 @@ public class JsonAdaptedArticle {
      * @param link
      */
     @JsonCreator
-    public JsonAdaptedArticle(@JsonProperty("title") String title,
+    public JsonAdaptedArticle(@JsonProperty("id") Long id,
+                              @JsonProperty("title") String title,
                               @JsonProperty("authors") List<JsonAdaptedAuthor> authors,
                               @JsonProperty("sources") List<JsonAdaptedSource> sources,
                               @JsonProperty("tags") List<JsonAdaptedTag> tags,
@@ -57,6 +64,7 @@ public class JsonAdaptedArticle {
                               @JsonProperty("publicationDate") String publicationDate,
                               @JsonProperty("status") Article.Status status,
                               @JsonProperty("link") String link) {
+        this.id = id;
         this.title = title;
         if (authors != null) {
             this.authors.addAll(authors);
@@ -79,6 +87,7 @@ public class JsonAdaptedArticle {
      * @param sourceArticle
      */
     public JsonAdaptedArticle(Article sourceArticle) {
+        id = sourceArticle.getId();
         title = sourceArticle.getTitle().fullTitle;
         authors.addAll(sourceArticle.getAuthors().stream()
                 .map(JsonAdaptedAuthor::new)
@@ -138,7 +147,14 @@ public class JsonAdaptedArticle {
 
         final Set<Outlet> modelOutlets = new HashSet<>(articleOutlets);
         final Link modelLink = new Link(link);
-        return new Article(modelTitle, modelAuthors, modelSources, modelTags,
+        if (id == null) {
+            return new Article(modelTitle, modelAuthors, modelSources, modelTags,
+                    modelOutlets, modelPublicationDate, status, modelLink);
+        }
+        if (!IdGenerator.isValidId(id)) {
+            throw new IllegalValueException(MESSAGE_INVALID_ID);
+        }
+        return new Article(id, modelTitle, modelAuthors, modelSources, modelTags,
                 modelOutlets, modelPublicationDate, status, modelLink);
     }
 }
@@ -0,0 +1,132 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ArticleBook;
+import seedu.address.model.article.Article;
+
+/**
+ * Jackson-friendly version of a single change to an {@link ArticleBook}, as reported to an
+ * {@link seedu.address.model.ArticleBookListener}.
+ */
+class JsonAdaptedArticleBookChange {
+    public static final String MESSAGE_INVALID_CHANGE = "Journal contains an invalid change: %s";
+
+    /**
+     * Kinds of change that can be recorded.
+     */
+    enum Type {
+        ADD, SET, REMOVE, SORT, RESET
+    }
+
+    private final long sequence;
+    private final Type type;
+    private final Integer index;
+    private final String prefix;
+    private final JsonAdaptedArticle article;
+    private final List<JsonAdaptedArticle> articles = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedArticleBookChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedArticleBookChange(@JsonProperty("sequence") long sequence,
+                                        @JsonProperty("type") Type type,
+                                        @JsonProperty("index") Integer index,
+                                        @JsonProperty("prefix") String prefix,
+                                        @JsonProperty("article") JsonAdaptedArticle article,
+                                        @JsonProperty("articles") List<JsonAdaptedArticle> articles) {
+        this.sequence = sequence;
+        this.type = type;
+        this.index = index;
+        this.prefix = prefix;
+        this.article = article;
+        if (articles != null) {
+            this.articles.addAll(articles);
+        }
+    }
+
+    static JsonAdaptedArticleBookChange added(long sequence, Article article) {
+        return new JsonAdaptedArticleBookChange(sequence, Type.ADD, null, null, new JsonAdaptedArticle(article), null);
+    }
+
+    static JsonAdaptedArticleBookChange set(long sequence, int index, Article article) {
+        return new JsonAdaptedArticleBookChange(sequence, Type.SET, index, null, new JsonAdaptedArticle(article), null);
+    }
+
+    static JsonAdaptedArticleBookChange removed(long sequence, int index) {
+        return new JsonAdaptedArticleBookChange(sequence, Type.REMOVE, index, null, null, null);
+    }
+
+    static JsonAdaptedArticleBookChange sorted(long sequence, String prefix) {
+        return new JsonAdaptedArticleBookChange(sequence, Type.SORT, null, prefix, null, null);
+    }
+
+    static JsonAdaptedArticleBookChange reset(long sequence, List<Article> articles) {
+        return new JsonAdaptedArticleBookChange(sequence, Type.RESET, null, null, null,
+                articles.stream().map(JsonAdaptedArticle::new).collect(Collectors.toList()));
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Applies this change to {@code articleBook}.
+     *
+     * @throws IllegalValueException if this change is malformed or does not fit {@code articleBook}.
+     */
+    public void applyTo(ArticleBook articleBook) throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_CHANGE, "missing type"));
+        }
+        try {
+            switch (type) {
+            case ADD:
+                articleBook.addArticle(getArticle());
+                break;
+            case SET:
+                articleBook.setArticle(getArticleAt(articleBook), getArticle());
+                break;
+            case REMOVE:
+                articleBook.removeArticle(getArticleAt(articleBook));
+                break;
+            case SORT:
+                articleBook.sortArticleBook(prefix);
+                break;
+            case RESET:
+                List<Article> modelArticles = new ArrayList<>();
+                for (JsonAdaptedArticle jsonAdaptedArticle : articles) {
+                    modelArticles.add(jsonAdaptedArticle.toModelType());
+                }
+                articleBook.setArticles(modelArticles);
+                break;
+            default:
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_CHANGE, type));
+            }
+        } catch (RuntimeException e) {
+            // Duplicate or missing articles, or an unknown sort prefix.
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_CHANGE, type + " " + e), e);
+        }
+    }
+
+    private Article getArticle() throws IllegalValueException {
+        if (article == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_CHANGE, type + " without article"));
+        }
+        return article.toModelType();
+    }
+
+    private Article getArticleAt(ArticleBook articleBook) throws IllegalValueException {
+        if (index == null || index < 0 || index >= articleBook.getArticleList().size()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_CHANGE, type + " at index " + index));
+        }
+        return articleBook.getArticleList().get(index);
+    }
+}
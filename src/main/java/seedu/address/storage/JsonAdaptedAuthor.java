@@ -41,6 +41,6 @@ public class JsonAdaptedAuthor {
         if (!Author.isValidAuthorName(authorName)) {
             throw new IllegalValueException(Author.MESSAGE_CONSTRAINTS);
         }
-        return new Author(authorName);
+        return Author.of(authorName);
     }
 }
@@ -42,7 +42,7 @@ class JsonAdaptedOutlet {
         if (!Outlet.isValidOutletName(outletName)) {
             throw new IllegalValueException(Outlet.MESSAGE_CONSTRAINTS);
         }
-        return new Outlet(outletName);
+        return Outlet.of(outletName);
     }
 
 }
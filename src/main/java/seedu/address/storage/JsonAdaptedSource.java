@@ -41,6 +41,6 @@ public class JsonAdaptedSource {
         if (!Source.isValidSourceName(sourceName)) {
             throw new IllegalValueException(Source.MESSAGE_CONSTRAINTS);
         }
-        return new Source(sourceName);
+        return Source.of(sourceName);
     }
 }
@@ -3,15 +3,20 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.FileUtil.SyncPolicy;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -22,9 +27,24 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private boolean isCompact;
+    private SyncPolicy syncPolicy;
+
+    // Files whose backup holds the only good copy of the data, as the files could neither be loaded nor restored.
+    private final Set<Path> filesLoadedFromBackup = ConcurrentHashMap.newKeySet();
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false, SyncPolicy.FILE);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that saves to {@code filePath}, without line breaks or indentation
+     * if {@code isCompact} is true, and waits for each save to reach the disk as required by {@code syncPolicy}.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact, SyncPolicy syncPolicy) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
+        this.syncPolicy = syncPolicy;
     }
 
     public Path getAddressBookFilePath() {
@@ -45,18 +65,45 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            return Optional.of(readAddressBookFile(filePath));
+        } catch (DataLoadingException e) {
+            Path backupPath = FileUtil.getBackupPath(filePath);
+            if (!Files.exists(backupPath)) {
+                throw e;
+            }
+            logger.warning("Data file at " + filePath + " could not be loaded."
+                    + " Falling back to its previous version at " + backupPath);
+            AddressBook addressBook = readAddressBookFile(backupPath);
+            try {
+                // Later saves must back up good data, not the unreadable file.
+                FileUtil.restoreFromBackup(filePath, syncPolicy);
+            } catch (IOException ioe) {
+                logger.warning("Could not restore " + filePath + " from " + backupPath + ": " + ioe);
+                filesLoadedFromBackup.add(filePath);
+            }
+            return Optional.of(addressBook);
+        }
+    }
+
+    private AddressBook readAddressBookFile(Path filePath) throws DataLoadingException {
+        // Convert each person as soon as it is read, rather than reading the whole file before converting it.
+        AddressBook addressBook = new AddressBook();
+        try {
+            JsonUtil.readJsonArrayFile(filePath, "persons", JsonAdaptedPerson.class, jsonPerson ->
+                    JsonSerializableAddressBook.addToModelType(addressBook, jsonPerson));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         }
+        return addressBook;
     }
 
     @Override
@@ -73,8 +120,10 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        // Replace the backup only if it is not the last good copy of the data.
+        boolean isBackedUp = !filesLoadedFromBackup.remove(filePath);
+        FileUtil.writeAtomically(filePath, out -> JsonUtil.writeJsonArray(out, "persons", addressBook.getPersonList(),
+                JsonAdaptedPerson::new, isCompact), syncPolicy, isBackedUp);
     }
 
 }
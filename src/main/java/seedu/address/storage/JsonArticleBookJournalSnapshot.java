@@ -0,0 +1,55 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ArticleBook;
+import seedu.address.model.article.Article;
+
+/**
+ * A snapshot of an ArticleBook that can be serialized into Json format, together with the sequence number of the
+ * last journal change it includes.
+ * Apart from the extra {@code sequence} field, it has the same format as {@link JsonSerializableArticleBook}.
+ */
+class JsonArticleBookJournalSnapshot {
+    private final long sequence;
+    private final List<JsonAdaptedArticle> articles = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonArticleBookJournalSnapshot} with the given sequence number and articles.
+     */
+    @JsonCreator
+    public JsonArticleBookJournalSnapshot(@JsonProperty("sequence") long sequence,
+                                          @JsonProperty("articles") List<JsonAdaptedArticle> articles) {
+        this.sequence = sequence;
+        if (articles != null) {
+            this.articles.addAll(articles);
+        }
+    }
+
+    /**
+     * Returns a snapshot of the given articles, converted into this class for Jackson use.
+     */
+    public static JsonArticleBookJournalSnapshot of(long sequence, List<Article> articles) {
+        return new JsonArticleBookJournalSnapshot(sequence,
+                articles.stream().map(JsonAdaptedArticle::new).collect(Collectors.toList()));
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Converts this snapshot into the model's {@code ArticleBook} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public ArticleBook toModelType() throws IllegalValueException {
+        return new JsonSerializableArticleBook(articles).toModelType();
+    }
+}
@@ -3,15 +3,20 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.FileUtil.SyncPolicy;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ArticleBook;
 import seedu.address.model.ReadOnlyArticleBook;
 
 /**
@@ -21,9 +26,24 @@ public class JsonArticleBookStorage implements ArticleBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonArticleBookStorage.class);
 
     private Path filePath;
+    private boolean isCompact;
+    private SyncPolicy syncPolicy;
+
+    // Files whose backup holds the only good copy of the data, as the files could neither be loaded nor restored.
+    private final Set<Path> filesLoadedFromBackup = ConcurrentHashMap.newKeySet();
 
     public JsonArticleBookStorage(Path filePath) {
+        this(filePath, false, SyncPolicy.FILE);
+    }
+
+    /**
+     * Creates a {@code JsonArticleBookStorage} that saves to {@code filePath}, without line breaks or indentation
+     * if {@code isCompact} is true, and waits for each save to reach the disk as required by {@code syncPolicy}.
+     */
+    public JsonArticleBookStorage(Path filePath, boolean isCompact, SyncPolicy syncPolicy) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
+        this.syncPolicy = syncPolicy;
     }
 
     public Path getArticleBookFilePath() {
@@ -44,18 +64,46 @@ public class JsonArticleBookStorage implements ArticleBookStorage {
     public Optional<ReadOnlyArticleBook> readArticleBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableArticleBook> jsonArticleBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableArticleBook.class);
-        if (!jsonArticleBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonArticleBook.get().toModelType());
+            return Optional.of(readArticleBookFile(filePath));
+        } catch (DataLoadingException e) {
+            Path backupPath = FileUtil.getBackupPath(filePath);
+            if (!Files.exists(backupPath)) {
+                throw e;
+            }
+            logger.warning("Data file at " + filePath + " could not be loaded."
+                    + " Falling back to its previous version at " + backupPath);
+            ArticleBook articleBook = readArticleBookFile(backupPath);
+            try {
+                // Later saves must back up good data, not the unreadable file.
+                FileUtil.restoreFromBackup(filePath, syncPolicy);
+            } catch (IOException ioe) {
+                logger.warning("Could not restore " + filePath + " from " + backupPath + ": " + ioe);
+                filesLoadedFromBackup.add(filePath);
+            }
+            return Optional.of(articleBook);
+        }
+    }
+
+    private ArticleBook readArticleBookFile(Path filePath) throws DataLoadingException {
+        // Convert articles in chunks as soon as they are read, rather than reading the whole file before converting it.
+        ArticleBook articleBook = new ArticleBook();
+        ParallelArticleConverter converter = new ParallelArticleConverter(articleBook);
+        try {
+            JsonUtil.readJsonArrayFile(filePath, "articles", JsonAdaptedArticle.class, converter::add);
+            converter.finish();
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         }
+        return articleBook;
     }
 
     @Override
@@ -72,7 +120,9 @@ public class JsonArticleBookStorage implements ArticleBookStorage {
         requireNonNull(articleBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableArticleBook(articleBook), filePath);
+        // Replace the backup only if it is not the last good copy of the data.
+        boolean isBackedUp = !filesLoadedFromBackup.remove(filePath);
+        FileUtil.writeAtomically(filePath, out -> JsonUtil.writeJsonArray(out, "articles", articleBook.getArticleList(),
+                JsonAdaptedArticle::new, isCompact), syncPolicy, isBackedUp);
     }
 }
@@ -11,7 +11,6 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.ArticleBook;
 import seedu.address.model.ReadOnlyArticleBook;
-import seedu.address.model.article.Article;
 
 /**
  * An immutable ArticleBook that can be serialized into Json format
@@ -19,6 +18,7 @@ import seedu.address.model.article.Article;
 @JsonRootName(value = "articlebook")
 public class JsonSerializableArticleBook {
     public static final String MESSAGE_DUPLICATE_ARTICLE = "Articles list contains duplicate article(s).";
+    public static final String MESSAGE_DUPLICATE_ID = "Articles list contains duplicate ID(s).";
 
     private final List<JsonAdaptedArticle> articles = new ArrayList<>();
 
@@ -48,13 +48,7 @@ public class JsonSerializableArticleBook {
      */
     public ArticleBook toModelType() throws IllegalValueException {
         ArticleBook articleBook = new ArticleBook();
-        for (JsonAdaptedArticle jsonAdaptedArticle : articles) {
-            Article article = jsonAdaptedArticle.toModelType();
-            if (articleBook.hasArticle(article)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_ARTICLE);
-            }
-            articleBook.addArticle(article);
-        }
+        ParallelArticleConverter.addAll(articleBook, articles);
         return articleBook;
     }
 }
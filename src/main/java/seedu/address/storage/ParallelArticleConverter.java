@@ -0,0 +1,169 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ArticleBook;
+import seedu.address.model.article.Article;
+
+/**
+ * Converts Json-adapted articles into the model's {@code Article} objects in chunks on the common fork-join pool,
+ * and adds them to an {@code ArticleBook} in the order they were given.
+ *
+ * Converting, which validates and parses every field, is done in parallel, while checking for duplicates and adding
+ * to the article book is done one article at a time in order. The error thrown, be it an
+ * {@code IllegalValueException} or any other exception, is always the one for the first offending article, exactly
+ * as if the articles were converted and added one at a time.
+ */
+class ParallelArticleConverter {
+    static final int CHUNK_SIZE = 1024;
+    // Bounds the number of articles held in memory while waiting to be added.
+    private static final int MAX_PENDING_CHUNKS = 2 * ForkJoinPool.getCommonPoolParallelism();
+    // A single worker converts no faster than the reading thread, and with a single processor there is no worker at
+    // all, so that forked tasks would only be run by the threads joining them.
+    private static final boolean IS_PARALLEL = ForkJoinPool.getCommonPoolParallelism() > 1;
+
+    private final ArticleBook articleBook;
+    private final Deque<ConversionTask> pendingChunks = new ArrayDeque<>();
+    private List<JsonAdaptedArticle> chunk = new ArrayList<>();
+
+    /**
+     * Creates a {@code ParallelArticleConverter} that adds the converted articles to {@code articleBook}.
+     */
+    ParallelArticleConverter(ArticleBook articleBook) {
+        requireNonNull(articleBook);
+        this.articleBook = articleBook;
+    }
+
+    /**
+     * Converts every one of {@code jsonAdaptedArticles} and adds it to {@code articleBook}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static void addAll(ArticleBook articleBook, List<JsonAdaptedArticle> jsonAdaptedArticles)
+            throws IllegalValueException {
+        ParallelArticleConverter converter = new ParallelArticleConverter(articleBook);
+        for (JsonAdaptedArticle jsonAdaptedArticle : jsonAdaptedArticles) {
+            converter.add(jsonAdaptedArticle);
+        }
+        converter.finish();
+    }
+
+    /**
+     * Queues {@code jsonAdaptedArticle} to be converted and added after the articles queued before it.
+     *
+     * @throws IllegalValueException if an article queued earlier violated any data constraints.
+     */
+    void add(JsonAdaptedArticle jsonAdaptedArticle) throws IllegalValueException {
+        requireNonNull(jsonAdaptedArticle);
+        chunk.add(jsonAdaptedArticle);
+        if (chunk.size() < CHUNK_SIZE) {
+            return;
+        }
+
+        ConversionTask task = new ConversionTask(chunk);
+        chunk = new ArrayList<>();
+        if (IS_PARALLEL) {
+            task.fork();
+        } else {
+            task.invoke();
+        }
+        pendingChunks.add(task);
+        if (pendingChunks.size() > MAX_PENDING_CHUNKS) {
+            addConverted(pendingChunks.remove());
+        }
+    }
+
+    /**
+     * Adds every queued article to the article book, waiting for their conversion where needed.
+     *
+     * @throws IllegalValueException if any queued article violated any data constraints.
+     */
+    void finish() throws IllegalValueException {
+        if (!chunk.isEmpty()) {
+            ConversionTask task = new ConversionTask(chunk);
+            chunk = new ArrayList<>();
+            if (IS_PARALLEL && !pendingChunks.isEmpty()) {
+                task.fork();
+            } else {
+                // Not worth handing over to another thread.
+                task.invoke();
+            }
+            pendingChunks.add(task);
+        }
+        while (!pendingChunks.isEmpty()) {
+            addConverted(pendingChunks.remove());
+        }
+    }
+
+    private void addConverted(ConversionTask task) throws IllegalValueException {
+        ConversionTask.Result result = task.join();
+        try {
+            for (Article article : result.articles) {
+                if (articleBook.hasArticle(article)) {
+                    throw new IllegalValueException(JsonSerializableArticleBook.MESSAGE_DUPLICATE_ARTICLE);
+                }
+                if (articleBook.findArticleById(article.getId()).isPresent()) {
+                    throw new IllegalValueException(JsonSerializableArticleBook.MESSAGE_DUPLICATE_ID);
+                }
+                articleBook.addArticle(article);
+            }
+            if (result.error instanceof IllegalValueException) {
+                throw (IllegalValueException) result.error;
+            } else if (result.error != null) {
+                throw (RuntimeException) result.error;
+            }
+        } catch (IllegalValueException | RuntimeException e) {
+            // The chunks after the first offending article are of no use any more.
+            pendingChunks.forEach(pendingTask -> pendingTask.cancel(false));
+            pendingChunks.clear();
+            throw e;
+        }
+    }
+
+    /**
+     * Converts a chunk of articles, up to the first one that violates any data constraints.
+     */
+    private static class ConversionTask extends RecursiveTask<ConversionTask.Result> {
+        private final List<JsonAdaptedArticle> jsonAdaptedArticles;
+
+        ConversionTask(List<JsonAdaptedArticle> jsonAdaptedArticles) {
+            this.jsonAdaptedArticles = jsonAdaptedArticles;
+        }
+
+        @Override
+        protected Result compute() {
+            List<Article> articles = new ArrayList<>(jsonAdaptedArticles.size());
+            for (JsonAdaptedArticle jsonAdaptedArticle : jsonAdaptedArticles) {
+                try {
+                    articles.add(jsonAdaptedArticle.toModelType());
+                } catch (IllegalValueException | RuntimeException e) {
+                    return new Result(articles, e);
+                }
+            }
+            return new Result(articles, null);
+        }
+
+        /**
+         * The articles converted from a chunk, followed by the error for the article that could not be converted,
+         * if any.
+         */
+        static class Result {
+            private final List<Article> articles;
+            // Either an IllegalValueException or a RuntimeException.
+            private final Exception error;
+
+            Result(List<Article> articles, Exception error) {
+                this.articles = articles;
+                this.error = error;
+            }
+        }
+    }
+}
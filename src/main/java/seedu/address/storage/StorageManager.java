@@ -115,4 +115,9 @@ public class StorageManager implements Storage {
         logger.fine("Attempting to write to data file: " + filePath);
         articleBookStorage.saveArticleBook(articleBook, filePath);
     }
+
+    @Override
+    public boolean isJournaling() {
+        return articleBookStorage.isJournaling();
+    }
 }
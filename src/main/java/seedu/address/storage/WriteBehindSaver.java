@@ -0,0 +1,245 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyArticleBook;
+import seedu.address.model.article.Article;
+import seedu.address.model.person.Person;
+
+/**
+ * Saves address and article books to {@code Storage} on a background thread.
+ *
+ * Save requests are coalesced: a burst of requests results in a single write of the latest snapshot, made once no
+ * request has arrived for the quiet period. A pending snapshot is never left unsaved for longer than the maximum
+ * staleness, however busy the requests keep coming.
+ *
+ * The error from a failed background write is kept until it is collected with {@link #takeError()}, or until a
+ * later write, which retries the failed snapshot, succeeds. Failed snapshots are retried without waiting for another
+ * request, after a delay that starts at the quiet period and doubles, up to the maximum staleness, while writes keep
+ * failing.
+ */
+public class WriteBehindSaver {
+    public static final long DEFAULT_QUIET_PERIOD_MILLIS = 500;
+    public static final long DEFAULT_MAX_STALENESS_MILLIS = 5000;
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindSaver.class);
+
+    private final Storage storage;
+    private final long quietPeriodMillis;
+    private final long maxStalenessMillis;
+    private final ScheduledExecutorService executor;
+
+    // All fields below are guarded by this.
+    private ReadOnlyAddressBook pendingAddressBook;
+    private ReadOnlyArticleBook pendingArticleBook;
+    private long oldestPendingMillis;
+    private ScheduledFuture<?> scheduledWrite;
+    private IOException error;
+    // 0 unless the latest write failed.
+    private long retryDelayMillis;
+
+    /**
+     * Creates a {@code WriteBehindSaver} that writes to {@code storage} with the default quiet period and staleness.
+     */
+    public WriteBehindSaver(Storage storage) {
+        this(storage, DEFAULT_QUIET_PERIOD_MILLIS, DEFAULT_MAX_STALENESS_MILLIS);
+    }
+
+    /**
+     * Creates a {@code WriteBehindSaver} that writes to {@code storage}.
+     *
+     * @param quietPeriodMillis how long to wait after the latest request before writing.
+     * @param maxStalenessMillis the longest a request may wait before it is written.
+     */
+    public WriteBehindSaver(Storage storage, long quietPeriodMillis, long maxStalenessMillis) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.quietPeriodMillis = quietPeriodMillis;
+        this.maxStalenessMillis = maxStalenessMillis;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "write-behind-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Requests that the current contents of {@code addressBook} be saved.
+     * The contents are captured immediately, so later changes to {@code addressBook} are not included.
+     */
+    public synchronized void saveAddressBookLater(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        pendingAddressBook = new AddressBookSnapshot(addressBook.getPersonList());
+        scheduleWrite();
+    }
+
+    /**
+     * Requests that the current contents of {@code articleBook} be saved.
+     * The contents are captured immediately, so later changes to {@code articleBook} are not included.
+     */
+    public synchronized void saveArticleBookLater(ReadOnlyArticleBook articleBook) {
+        requireNonNull(articleBook);
+        pendingArticleBook = new ArticleBookSnapshot(articleBook.getArticleList());
+        scheduleWrite();
+    }
+
+    /**
+     * Returns the error from the latest failed background write, if any, and forgets it.
+     */
+    public synchronized Optional<IOException> takeError() {
+        Optional<IOException> taken = Optional.ofNullable(error);
+        error = null;
+        return taken;
+    }
+
+    /**
+     * Writes any pending snapshots now and waits for them to be written.
+     * An error thrown from here is also kept for {@link #takeError()}.
+     *
+     * @throws IOException if the pending snapshots, or the latest background write, could not be saved.
+     */
+    public void flush() throws IOException {
+        synchronized (this) {
+            if (scheduledWrite != null) {
+                scheduledWrite.cancel(false);
+                scheduledWrite = null;
+            }
+        }
+        try {
+            executor.submit(this::writePending).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while saving data", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+        synchronized (this) {
+            if (error != null) {
+                throw error;
+            }
+        }
+    }
+
+    /**
+     * Flushes pending snapshots and stops the background thread.
+     *
+     * @throws IOException if the pending snapshots could not be saved.
+     */
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void scheduleWrite() {
+        long now = System.currentTimeMillis();
+        if (scheduledWrite == null || scheduledWrite.isDone()) {
+            oldestPendingMillis = now;
+        } else {
+            scheduledWrite.cancel(false);
+        }
+        long delay = Math.max(0, Math.min(quietPeriodMillis, oldestPendingMillis + maxStalenessMillis - now));
+        scheduledWrite = executor.schedule(this::writePending, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void writePending() {
+        ReadOnlyAddressBook addressBook;
+        ReadOnlyArticleBook articleBook;
+        synchronized (this) {
+            addressBook = pendingAddressBook;
+            articleBook = pendingArticleBook;
+            pendingAddressBook = null;
+            pendingArticleBook = null;
+        }
+
+        try {
+            if (addressBook != null) {
+                storage.saveAddressBook(addressBook);
+                addressBook = null;
+            }
+            if (articleBook != null) {
+                storage.saveArticleBook(articleBook);
+            }
+            synchronized (this) {
+                // Everything that failed before has now been saved.
+                error = null;
+                retryDelayMillis = 0;
+            }
+        } catch (IOException e) {
+            keepForRetry(e, addressBook, articleBook);
+        } catch (RuntimeException e) {
+            // Such as a failure to serialize the data, or to load archived articles from their file.
+            keepForRetry(new IOException("Could not save data: " + e, e), addressBook, articleBook);
+        }
+    }
+
+    private synchronized void keepForRetry(IOException e, ReadOnlyAddressBook addressBook,
+            ReadOnlyArticleBook articleBook) {
+        logger.warning("Could not save data in the background: " + e.getMessage());
+        error = e;
+        // Keep what failed to save so that the next write retries it, unless a newer snapshot is waiting.
+        if (pendingAddressBook == null) {
+            pendingAddressBook = addressBook;
+        }
+        if (pendingArticleBook == null) {
+            pendingArticleBook = articleBook;
+        }
+
+        retryDelayMillis = retryDelayMillis == 0
+                ? quietPeriodMillis
+                : Math.min(retryDelayMillis * 2, maxStalenessMillis);
+        // The write that failed is the one running, unless a request has scheduled a newer write meanwhile.
+        boolean isNewerWriteScheduled = scheduledWrite != null && !scheduledWrite.isDone()
+                && scheduledWrite.getDelay(TimeUnit.MILLISECONDS) > 0;
+        if (!isNewerWriteScheduled && !executor.isShutdown()) {
+            scheduledWrite = executor.schedule(this::writePending, retryDelayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * A copy of the persons of an address book at the time it was requested to be saved.
+     */
+    private static class AddressBookSnapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+
+        AddressBookSnapshot(ObservableList<Person> persons) {
+            this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(persons));
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+    }
+
+    /**
+     * A copy of the articles of an article book at the time it was requested to be saved.
+     */
+    private static class ArticleBookSnapshot implements ReadOnlyArticleBook {
+        private final ObservableList<Article> articles;
+
+        ArticleBookSnapshot(ObservableList<Article> articles) {
+            this.articles = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(articles));
+        }
+
+        @Override
+        public ObservableList<Article> getArticleList() {
+            return articles;
+        }
+    }
+}
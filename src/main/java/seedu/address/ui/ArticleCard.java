@@ -5,15 +5,16 @@ import java.awt.Desktop;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.util.Comparator;
 
 import javafx.fxml.FXML;
+import javafx.geometry.Insets;
 import javafx.scene.control.Hyperlink;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import seedu.address.model.article.Article;
+import seedu.address.model.article.ArticleDisplayFields;
 
 /**
  * A UI component that displays information of an {@code Article}.
@@ -21,6 +22,8 @@ import seedu.address.model.article.Article;
 public class ArticleCard extends UiPart<Region> {
 
     private static final String FXML = "ArticleListCard.fxml";
+    private static final Insets NO_PADDING = new Insets(0, 0, 0, 0);
+    private static final Insets LABELS_PADDING = new Insets(0, 0, 3, 0);
 
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
@@ -30,7 +33,7 @@ public class ArticleCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Article article;
+    private Article article;
 
     @FXML
     private HBox cardPane;
@@ -58,41 +61,47 @@ public class ArticleCard extends UiPart<Region> {
      * Creates a {@code ArticleCode} with the given {@code Article} and index to display.
      */
     public ArticleCard(Article article, int displayedIndex) {
+        this();
+        setArticle(article, displayedIndex);
+    }
+
+    /**
+     * Creates an empty {@code ArticleCard}, to be given an article with {@link #setArticle(Article, int)}.
+     */
+    public ArticleCard() {
         super(FXML);
+        hyperlink.setOnAction(event -> openBrowser(article.getLink().link));
+    }
+
+    /**
+     * Shows {@code article} with the given index on this card, in place of the article shown so far, if any.
+     * The nodes of the card are updated rather than created anew.
+     */
+    public void setArticle(Article article, int displayedIndex) {
         this.article = article;
         id.setText(displayedIndex + ". ");
         title.setText(article.getTitle().fullTitle);
 
-        article.getAuthors().stream()
-                .sorted(Comparator.comparing(author -> author.authorName))
-                .forEach(author -> authors.getChildren().add(new Label(author.authorName)));
-        article.getSources().stream()
-                .sorted(Comparator.comparing(source -> source.sourceName))
-                .forEach(source -> sources.getChildren().add(new Label(source.sourceName)));
-        article.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
-        article.getOutlets().stream()
-                .sorted(Comparator.comparing(outlet -> outlet.outletName))
-                .forEach(outlet -> outlets.getChildren().add(new Label(outlet.outletName)));
+        ArticleDisplayFields displayFields = article.getDisplayFields();
+        Labels.setTexts(authors, displayFields.getAuthorNames());
+        Labels.setTexts(sources, displayFields.getSourceNames());
+        Labels.setTexts(tags, displayFields.getTagNames());
+        Labels.setTexts(outlets, displayFields.getOutletNames());
 
         setPadding(authors);
         setPadding(sources);
         setPadding(tags);
         setPadding(outlets);
-        publicationDate.setText(article.getPublicationDateAsString());
+        publicationDate.setText(displayFields.getPublicationDate());
         status.setText(article.getStatus().toString());
 
-        String link = article.getLink().link;
-        if (!link.isEmpty()) {
-            hyperlink.setText("Link");
-            hyperlink.setOnAction(event -> {
-                openBrowser(link);
-            });
-        } else {
-            hyperlink.setVisible(false);
-            hyperlink.setManaged(false);
-        }
+        boolean hasLink = !article.getLink().link.isEmpty();
+        hyperlink.setVisible(hasLink);
+        hyperlink.setManaged(hasLink);
+    }
+
+    public Article getArticle() {
+        return article;
     }
 
     private void openBrowser(String link) {
@@ -108,10 +117,6 @@ public class ArticleCard extends UiPart<Region> {
     }
 
     private void setPadding(FlowPane flowPane) {
-        if (flowPane.getChildren().isEmpty()) {
-            flowPane.setPadding(new javafx.geometry.Insets(0, 0, 0, 0));
-        } else {
-            flowPane.setPadding(new javafx.geometry.Insets(0, 0, 3, 0));
-        }
+        flowPane.setPadding(flowPane.getChildren().isEmpty() ? NO_PADDING : LABELS_PADDING);
     }
 }
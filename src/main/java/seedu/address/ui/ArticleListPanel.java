@@ -20,6 +20,9 @@ public class ArticleListPanel extends UiPart<Region> {
     @FXML
     private ListView<Article> articleListView;
 
+    // The index in the whole article list of the first article shown, which is not 0 when a later page is shown.
+    private int firstIndex;
+
     /**
      * Creates a {@code ArticleListPanel} with the given {@code ObservableList}.
      */
@@ -29,10 +32,26 @@ public class ArticleListPanel extends UiPart<Region> {
         articleListView.setCellFactory(listView -> new ArticleListViewCell());
     }
 
+    /**
+     * Numbers the articles shown from {@code firstIndex}, the index in the whole article list of the first of them,
+     * so that they keep the indexes commands refer to them by on every page.
+     */
+    public void setFirstIndex(int firstIndex) {
+        if (firstIndex == this.firstIndex) {
+            return;
+        }
+        this.firstIndex = firstIndex;
+        articleListView.refresh();
+    }
+
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Article} using a {@code ArticleCard}.
+     * Each cell keeps a single card, which is updated in place whenever the cell is given another article.
      */
     class ArticleListViewCell extends ListCell<Article> {
+        // Created with the first article shown, and given every later article, as loading a card is expensive.
+        private ArticleCard card;
+
         @Override
         protected void updateItem(Article article, boolean empty) {
             super.updateItem(article, empty);
@@ -41,7 +60,11 @@ public class ArticleListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new ArticleCard(article, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new ArticleCard();
+                }
+                card.setArticle(article, firstIndex + getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
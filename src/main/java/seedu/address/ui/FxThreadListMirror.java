@@ -0,0 +1,91 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * Mirrors a list that is changed on the command thread into a list that is only changed on the JavaFX application
+ * thread, so that list views never see their items change under them while they are being laid out.
+ *
+ * Every change to the source list is copied when it is made, and replayed on the mirror later, in the same order.
+ * Only the items added by a change are copied, so a command that changes a few items of a large list costs little.
+ */
+final class FxThreadListMirror {
+
+    private FxThreadListMirror() {} // prevents instantiation
+
+    /**
+     * Returns a mirror of {@code source} that is only changed on the JavaFX application thread.
+     * Must be called while {@code source} is not being changed, such as before the first command is run.
+     */
+    static <T> ObservableList<T> of(ObservableList<T> source) {
+        return of(source, Platform::runLater);
+    }
+
+    /**
+     * Returns a mirror of {@code source} that is only changed by tasks run on {@code fxThread}, one per change to
+     * {@code source}.
+     */
+    static <T> ObservableList<T> of(ObservableList<T> source, Executor fxThread) {
+        requireNonNull(source);
+        requireNonNull(fxThread);
+        ObservableList<T> mirror = FXCollections.observableArrayList(source);
+        source.addListener((ListChangeListener<T>) change -> {
+            List<Runnable> replays = new ArrayList<>();
+            while (change.next()) {
+                replays.add(toReplay(change, mirror));
+            }
+            fxThread.execute(() -> replays.forEach(Runnable::run));
+        });
+        return mirror;
+    }
+
+    /**
+     * Returns a task that makes the current step of {@code change} to {@code mirror}.
+     * Each step is relative to the list left by the steps before it, so the tasks must be run in order.
+     */
+    private static <T> Runnable toReplay(ListChangeListener.Change<? extends T> change, ObservableList<T> mirror) {
+        int from = change.getFrom();
+        int to = change.getTo();
+        if (change.wasPermutated()) {
+            int[] newIndexes = new int[to - from];
+            for (int i = from; i < to; i++) {
+                newIndexes[i - from] = change.getPermutation(i);
+            }
+            return () -> {
+                List<T> permuted = new ArrayList<>(mirror.subList(from, to));
+                for (int i = 0; i < newIndexes.length; i++) {
+                    permuted.set(newIndexes[i] - from, mirror.get(from + i));
+                }
+                mirror.subList(from, to).clear();
+                mirror.addAll(from, permuted);
+            };
+        }
+        if (change.wasUpdated()) {
+            // Setting each item again has the list views show it afresh.
+            return () -> {
+                for (int i = from; i < to; i++) {
+                    mirror.set(i, mirror.get(i));
+                }
+            };
+        }
+        int removedSize = change.getRemovedSize();
+        List<T> added = new ArrayList<>(change.getAddedSubList());
+        return () -> {
+            if (removedSize == 1 && added.size() == 1) {
+                mirror.set(from, added.get(0));
+                return;
+            }
+            mirror.subList(from, from + removedSize).clear();
+            mirror.addAll(from, added);
+        };
+    }
+}
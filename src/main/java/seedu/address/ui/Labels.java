@@ -0,0 +1,35 @@
+package seedu.address.ui;
+
+import java.util.List;
+
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.layout.FlowPane;
+
+/**
+ * Helpers for the rows of labels shown on cards.
+ */
+class Labels {
+
+    private Labels() {}
+
+    /**
+     * Makes {@code flowPane} show one label for each of {@code texts}, in order.
+     * The labels already in {@code flowPane} are given the new texts instead of being replaced, so that a card
+     * showing another item only creates labels when it needs more of them.
+     */
+    static void setTexts(FlowPane flowPane, List<String> texts) {
+        ObservableList<Node> children = flowPane.getChildren();
+        for (int i = 0; i < texts.size(); i++) {
+            if (i < children.size()) {
+                ((Label) children.get(i)).setText(texts.get(i));
+            } else {
+                children.add(new Label(texts.get(i)));
+            }
+        }
+        if (children.size() > texts.size()) {
+            children.remove(texts.size(), children.size());
+        }
+    }
+}
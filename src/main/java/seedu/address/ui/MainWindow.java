@@ -1,7 +1,12 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -13,6 +18,7 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -25,9 +31,17 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
+    private static final String MESSAGE_UNEXPECTED_ERROR = "Unexpected error while executing the command: %1$s";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
+    // Runs the commands one at a time, away from the JavaFX application thread, so that the window stays responsive.
+    private final ExecutorService commandRunner = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "command-runner");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private Stage primaryStage;
     private Logic logic;
 
@@ -36,6 +50,7 @@ public class MainWindow extends UiPart<Stage> {
     private PersonListPanel personListPanel;
     private ArticleListPanel articleListPanel;
     private ResultDisplay resultDisplay;
+    private StatusBarFooter statusBarFooter;
     private HelpWindow helpWindow;
 
     @FXML
@@ -115,16 +130,16 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
+        personListPanel = new PersonListPanel(FxThreadListMirror.of(logic.getFilteredPersonList()));
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
-        articleListPanel = new ArticleListPanel(logic.getFilteredArticleList());
+        articleListPanel = new ArticleListPanel(FxThreadListMirror.of(logic.getPagedArticleList()));
         articleListPanelPlaceholder.getChildren().add(articleListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
@@ -167,6 +182,7 @@ public class MainWindow extends UiPart<Stage> {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
         logic.setGuiSettings(guiSettings);
+        commandRunner.shutdown();
         helpWindow.hide();
         primaryStage.hide();
     }
@@ -176,43 +192,82 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Starts executing the command on the command thread, and shows its result once it is done.
+     * The lists shown are changed by the command as it runs, and are up to date by the time the result is shown.
      *
      * @see seedu.address.logic.Logic#execute(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-
-            if (commandResult.isShowHelp()) {
-                handleHelp();
+    private CompletionStage<CommandResult> executeCommand(String commandText) {
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        statusBarFooter.showCommandRunning(commandText);
+        commandRunner.execute(() -> {
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                String commandType = logic.getCommandType(commandText);
+                Platform.runLater(() -> {
+                    statusBarFooter.clearCommandRunning();
+                    try {
+                        showCommandResult(commandResult, commandType);
+                        result.complete(commandResult);
+                    } finally {
+                        // Does nothing once completed above, but if showing the result failed, the command must still
+                        // complete, or the command box waits for it forever.
+                        result.completeExceptionally(new IllegalStateException("Could not show the command result"));
+                    }
+                });
+            } catch (CommandException | ParseException e) {
+                logger.info("An error occurred while executing command: " + commandText);
+                Platform.runLater(() -> {
+                    statusBarFooter.clearCommandRunning();
+                    resultDisplay.setFeedbackToUser(e.getMessage());
+                    result.completeExceptionally(e);
+                });
+            } catch (Throwable e) {
+                // Errors too, as the command box waits for the command to complete before taking the next one.
+                logger.severe("Unexpected error while executing command: " + commandText + StringUtil.getDetails(e));
+                Platform.runLater(() -> {
+                    statusBarFooter.clearCommandRunning();
+                    resultDisplay.setFeedbackToUser(String.format(MESSAGE_UNEXPECTED_ERROR, e));
+                    result.completeExceptionally(e);
+                });
             }
+        });
+        return result;
+    }
+
+    /**
+     * Shows the result of a command of the given type.
+     */
+    private void showCommandResult(CommandResult commandResult, String commandType) {
+        logger.info("Result: " + commandResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
-            if (commandResult.isExit()) {
-                handleExit();
+        if (commandResult.isShowHelp()) {
+            handleHelp();
+        }
+
+        if (commandResult.isExit()) {
+            handleExit();
+        }
+        if (commandType.equals("articleCommand")) {
+            // Initialize articleListPanel if not already initialized
+            if (articleListPanel == null) {
+                articleListPanel = new ArticleListPanel(FxThreadListMirror.of(logic.getPagedArticleList()));
+                articleListPanelPlaceholder.getChildren().add(articleListPanel.getRoot());
             }
-            if (logic.getCommandType(commandText).equals("articleCommand")) {
-                // Initialize articleListPanel if not already initialized
-                if (articleListPanel == null) {
-                    articleListPanel = new ArticleListPanel(logic.getFilteredArticleList());
-                    articleListPanelPlaceholder.getChildren().add(articleListPanel.getRoot());
-                }
-
-            } else if (logic.getCommandType(commandText).equals("personCommand")) {
-                // Initialize personListPanel if not already initialized
-                if (personListPanel == null) {
-                    personListPanel = new PersonListPanel(logic.getFilteredPersonList());
-                    personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
-                }
 
+        } else if (commandType.equals("personCommand")) {
+            // Initialize personListPanel if not already initialized
+            if (personListPanel == null) {
+                personListPanel = new PersonListPanel(FxThreadListMirror.of(logic.getFilteredPersonList()));
+                personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
             }
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+
+        }
+
+        if (articleListPanel != null) {
+            // The command thread is done, so the page it left is the one the article list panel now shows.
+            articleListPanel.setFirstIndex(logic.getFirstPagedArticleIndex());
         }
     }
 }
@@ -13,9 +13,12 @@ import javafx.scene.layout.Region;
 public class StatusBarFooter extends UiPart<Region> {
 
     private static final String FXML = "StatusBarFooter.fxml";
+    private static final String COMMAND_RUNNING_FORMAT = "Running: %s ...";
 
     @FXML
     private Label saveLocationStatus;
+    @FXML
+    private Label commandStatus;
 
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
@@ -25,4 +28,18 @@ public class StatusBarFooter extends UiPart<Region> {
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
 
+    /**
+     * Shows that {@code commandText} is running, until {@link #clearCommandRunning()} is called.
+     */
+    public void showCommandRunning(String commandText) {
+        commandStatus.setText(String.format(COMMAND_RUNNING_FORMAT, commandText));
+    }
+
+    /**
+     * Stops showing that a command is running.
+     */
+    public void clearCommandRunning() {
+        commandStatus.setText("");
+    }
+
 }
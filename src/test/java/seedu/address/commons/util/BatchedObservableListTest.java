@@ -0,0 +1,80 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class BatchedObservableListTest {
+
+    private final BatchedObservableList<String> list = new BatchedObservableList<>();
+    private int changeCount;
+
+    @BeforeEach
+    public void setUp() {
+        list.setAll(List.of("c", "a", "b"));
+        list.addListener((ListChangeListener<String>) change -> changeCount++);
+    }
+
+    @Test
+    public void change_outsideBatch_toldRightAway() {
+        list.add("d");
+        list.remove("a");
+
+        assertEquals(2, changeCount);
+        assertEquals(List.of("c", "b", "d"), list);
+    }
+
+    @Test
+    public void change_insideBatch_toldOnceAtEnd() {
+        list.beginBatch();
+        list.add("d");
+        list.remove("a");
+        list.set(0, "e");
+        assertEquals(0, changeCount);
+
+        list.endBatch();
+        assertEquals(1, changeCount);
+        assertEquals(List.of("e", "b", "d"), list);
+    }
+
+    @Test
+    public void change_nestedBatch_toldOnceAtOutermostEnd() {
+        list.beginBatch();
+        list.add("d");
+        list.beginBatch();
+        list.add("e");
+        list.endBatch();
+        assertEquals(0, changeCount);
+
+        list.endBatch();
+        assertEquals(1, changeCount);
+    }
+
+    @Test
+    public void setAll_toldOnce() {
+        list.setAll(List.of("x", "y"));
+
+        assertEquals(1, changeCount);
+        assertEquals(List.of("x", "y"), list);
+    }
+
+    @Test
+    public void sort_toldOnce() {
+        list.sort(Comparator.naturalOrder());
+
+        assertEquals(1, changeCount);
+        assertEquals(List.of("a", "b", "c"), list);
+    }
+
+    @Test
+    public void sort_nullComparator_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> list.sort(null));
+    }
+}
@@ -1,14 +1,19 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.commons.util.CollectionUtil.toCompactSet;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -82,6 +87,32 @@ public class CollectionUtilTest {
         assertTrue(CollectionUtil.isAnyNonNull(new Object(), null));
     }
 
+    @Test
+    public void toCompactSet_variousSizes_immutableEqualSets() {
+        // duplicates dropped, order of first occurrence kept
+        assertEquals(Arrays.asList(3, 1, 2), new ArrayList<>(toCompactSet(Arrays.asList(3, 1, 3, 2, 1))));
+
+        // equal to sets with the same elements, whatever their size
+        for (int size = 0; size <= 10; size++) {
+            Set<Integer> expected = new HashSet<>();
+            for (int i = 0; i < size; i++) {
+                expected.add(i);
+            }
+            Set<Integer> compactSet = toCompactSet(expected);
+            assertEquals(expected, compactSet);
+            assertEquals(compactSet, expected);
+            assertEquals(expected.hashCode(), compactSet.hashCode());
+            assertFalse(compactSet.contains(size));
+
+            // modifications throw even when they would change nothing
+            assertThrows(UnsupportedOperationException.class, () -> compactSet.remove(-1));
+            assertThrows(UnsupportedOperationException.class, () -> compactSet.addAll(Collections.emptySet()));
+        }
+
+        // null elements
+        assertThrows(NullPointerException.class, () -> toCompactSet(Arrays.asList(1, null)));
+    }
+
     /**
      * Asserts that {@code CollectionUtil#requireAllNonNull(Object...)} throw {@code NullPointerException}
      * if {@code objects} or any element of {@code objects} is null.
@@ -1,13 +1,24 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil.SyncPolicy;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +31,30 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeAtomically_writeFails_fileUnchanged() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old contents");
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, out -> {
+            out.write("new".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("Disk full");
+        }, SyncPolicy.NONE, true));
+
+        assertEquals("old contents", FileUtil.readFromFile(file));
+        assertEquals(1, testFolder.toFile().list().length);
+    }
+
+    @Test
+    public void writeAtomically_backedUp_previousVersionKept() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old contents");
+
+        FileUtil.writeAtomically(file, out -> out.write("new contents".getBytes(StandardCharsets.UTF_8)),
+                SyncPolicy.FILE_AND_FOLDER, true);
+
+        assertEquals("new contents", FileUtil.readFromFile(file));
+        assertEquals("old contents", FileUtil.readFromFile(FileUtil.getBackupPath(file)));
+    }
+
 }
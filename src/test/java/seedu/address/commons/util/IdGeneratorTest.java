@@ -0,0 +1,39 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class IdGeneratorTest {
+
+    @Test
+    public void next_calledRepeatedly_increasingIds() {
+        IdGenerator idGenerator = new IdGenerator();
+        assertEquals(1, idGenerator.next());
+        assertEquals(2, idGenerator.next());
+    }
+
+    @Test
+    public void reserve_reservedIds_neverHandedOut() {
+        IdGenerator idGenerator = new IdGenerator();
+        idGenerator.reserve(10);
+        idGenerator.reserve(5);
+        assertEquals(11, idGenerator.next());
+    }
+
+    @Test
+    public void reserve_invalidId_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new IdGenerator().reserve(0));
+        assertThrows(IllegalArgumentException.class, () -> new IdGenerator().reserve(-1));
+    }
+
+    @Test
+    public void isValidId() {
+        assertFalse(IdGenerator.isValidId(-1));
+        assertFalse(IdGenerator.isValidId(0));
+        assertTrue(IdGenerator.isValidId(1));
+    }
+}
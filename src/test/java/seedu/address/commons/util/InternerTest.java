@@ -0,0 +1,51 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class InternerTest {
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Interner<String, String>(String::new).intern(null));
+    }
+
+    @Test
+    public void intern_equalKeys_sameValue() {
+        Interner<String, StringBuilder> interner = new Interner<>(StringBuilder::new);
+        StringBuilder value = interner.intern("value");
+
+        StringBuilder otherValue = interner.intern("other value");
+
+        assertSame(value, interner.intern(new String("value")));
+        assertNotSame(value, otherValue);
+        assertEquals(2, interner.size());
+    }
+
+    @Test
+    public void intern_valueNoLongerUsed_dropped() throws Exception {
+        Interner<String, StringBuilder> interner = new Interner<>(StringBuilder::new);
+        StringBuilder kept = interner.intern("kept");
+        interner.intern("dropped");
+
+        for (int i = 0; i < 100 && interner.size() > 1; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertEquals(1, interner.size());
+        assertSame(kept, interner.intern("kept"));
+    }
+
+    @Test
+    public void intern_factoryThrows_nothingKept() {
+        Interner<String, Integer> interner = new Interner<>(Integer::valueOf);
+
+        assertThrows(NumberFormatException.class, () -> interner.intern("not a number"));
+        assertEquals(0, interner.size());
+        assertEquals(Integer.valueOf(1), interner.intern("1"));
+    }
+}
@@ -1,9 +1,13 @@
 package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -39,6 +43,25 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void readJsonArrayFile_otherFieldsSkipped() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE,
+                "{\"before\": {\"items\": [\"x\"]}, \"items\": [\"a\", \"b\"], \"after\": [1, 2]}");
+
+        List<String> items = new ArrayList<>();
+        JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "items", String.class, items::add);
+
+        assertEquals(Arrays.asList("a", "b"), items);
+    }
+
+    @Test
+    public void readJsonArrayFile_notJsonObject_throwsIoException() throws IOException {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "[\"a\"]");
+
+        assertThrows(IOException.class, () ->
+                JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "items", String.class, item -> {}));
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
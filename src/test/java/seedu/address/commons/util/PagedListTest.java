@@ -0,0 +1,102 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class PagedListTest {
+
+    private final ObservableList<String> source = FXCollections.observableArrayList("a", "b", "c", "d", "e");
+
+    @Test
+    public void constructor_negativePageSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PagedList<>(source, -1));
+    }
+
+    @Test
+    public void constructor_notPaged_wholeSourceShown() {
+        PagedList<String> pagedList = new PagedList<>(source, 0);
+
+        assertEquals(source, pagedList);
+        assertEquals(1, pagedList.getPageCount());
+        assertEquals(0, pagedList.getFirstIndex());
+    }
+
+    @Test
+    public void constructor_paged_firstPageShown() {
+        PagedList<String> pagedList = new PagedList<>(source, 2);
+
+        assertEquals(List.of("a", "b"), pagedList);
+        assertEquals(3, pagedList.getPageCount());
+    }
+
+    @Test
+    public void setPageIndex_lastPage_partPageShown() {
+        PagedList<String> pagedList = new PagedList<>(source, 2);
+        pagedList.setPageIndex(2);
+
+        assertEquals(List.of("e"), pagedList);
+        assertEquals(4, pagedList.getFirstIndex());
+    }
+
+    @Test
+    public void setPageIndex_noSuchPage_throwsIndexOutOfBoundsException() {
+        PagedList<String> pagedList = new PagedList<>(source, 2);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> pagedList.setPageIndex(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> pagedList.setPageIndex(-1));
+    }
+
+    @Test
+    public void setPageSize_firstShownElementKeptInView() {
+        PagedList<String> pagedList = new PagedList<>(source, 2);
+        pagedList.setPageIndex(2);
+        pagedList.setPageSize(3);
+
+        assertEquals(1, pagedList.getPageIndex());
+        assertEquals(List.of("d", "e"), pagedList);
+
+        pagedList.setPageSize(0);
+        assertEquals(source, pagedList);
+    }
+
+    @Test
+    public void sourceChanged_paged_pageUpdatedAndToldOnce() {
+        PagedList<String> pagedList = new PagedList<>(source, 2);
+        int[] changeCount = new int[1];
+        pagedList.addListener((ListChangeListener<String>) change -> changeCount[0]++);
+
+        source.add(0, "z");
+
+        assertEquals(List.of("z", "a"), pagedList);
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void sourceChanged_sourceShrinks_lastPageShown() {
+        PagedList<String> pagedList = new PagedList<>(source, 2);
+        pagedList.setPageIndex(2);
+
+        source.remove(4);
+
+        assertEquals(1, pagedList.getPageIndex());
+        assertEquals(List.of("c", "d"), pagedList);
+    }
+
+    @Test
+    public void sourceChanged_notPaged_sourceShown() {
+        PagedList<String> pagedList = new PagedList<>(source, 0);
+
+        source.remove("c");
+        source.add("f");
+
+        assertEquals(source, pagedList);
+    }
+}
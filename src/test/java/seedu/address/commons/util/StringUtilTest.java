@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -123,6 +124,19 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for toCaseFoldedKey --------------------------------------
+
+    @Test
+    public void toCaseFoldedKey() {
+        assertThrows(NullPointerException.class, () -> StringUtil.toCaseFoldedKey(null));
+
+        assertEquals("", StringUtil.toCaseFoldedKey("   "));
+        assertEquals("abc def", StringUtil.toCaseFoldedKey("  ABc \t dEF "));
+
+        // Characters equal ignoring case only through their upper case, such as the two lower case sigmas
+        assertEquals(StringUtil.toCaseFoldedKey("\u03c3"), StringUtil.toCaseFoldedKey("\u03c2"));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
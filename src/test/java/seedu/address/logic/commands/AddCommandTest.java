@@ -16,9 +16,11 @@ import org.junit.jupiter.api.Test;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.util.PagedList;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.ArticleBookListener;
 import seedu.address.model.ArticleFilter;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -156,6 +158,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getAddressBookModificationCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -176,6 +183,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addArticleBookListener(ArticleBookListener listener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredArticleList(Predicate<Article> predicate) {
             throw new AssertionError("This method should not be called.");
@@ -186,6 +198,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public PagedList<Article> getPagedArticleList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setArticlePageSize(int pageSize) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteArticle(Article target) {
             throw new AssertionError("This method should not be called.");
@@ -210,6 +232,11 @@ public class AddCommandTest {
         public void sortArticleBook(String prefix) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public long getArticleBookModificationCount() {
+            throw new AssertionError("This method should not be called.");
+        }
         @Override
         public ArticleFilter getFilter() {
             throw new AssertionError("This method should not be called.");
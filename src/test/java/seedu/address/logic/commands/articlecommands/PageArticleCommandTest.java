@@ -0,0 +1,102 @@
+package seedu.address.logic.commands.articlecommands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.articlecommands.ArticleCommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalArticles.getTypicalArticleBook;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class PageArticleCommandTest {
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(new AddressBook(), getTypicalArticleBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_setPageSize_firstPageShown() throws CommandException {
+        CommandResult result = PageArticleCommand.withPageSize(4).execute(model);
+
+        assertEquals(String.format(PageArticleCommand.MESSAGE_SUCCESS, 1, 4, 6, 1, 2), result.getFeedbackToUser());
+        assertEquals(model.getFilteredArticleList().subList(0, 4), model.getPagedArticleList());
+        assertEquals(4, model.getUserPrefs().getArticlePageSize());
+    }
+
+    @Test
+    public void execute_nextPage_laterArticlesShownWithSameIndexes() throws CommandException {
+        PageArticleCommand.withPageSize(4).execute(model);
+        CommandResult result = PageArticleCommand.toNextPage().execute(model);
+
+        assertEquals(String.format(PageArticleCommand.MESSAGE_SUCCESS, 5, 6, 6, 2, 2), result.getFeedbackToUser());
+        assertEquals(model.getFilteredArticleList().subList(4, 6), model.getPagedArticleList());
+        assertEquals(4, model.getPagedArticleList().getFirstIndex());
+    }
+
+    @Test
+    public void execute_previousPage_earlierArticlesShown() throws CommandException {
+        PageArticleCommand.withPageSize(4).execute(model);
+        PageArticleCommand.toPage(1).execute(model);
+        PageArticleCommand.toPreviousPage().execute(model);
+
+        assertEquals(0, model.getPagedArticleList().getPageIndex());
+        assertEquals(model.getFilteredArticleList().subList(0, 4), model.getPagedArticleList());
+    }
+
+    @Test
+    public void execute_pageSizeZero_allArticlesShown() throws CommandException {
+        PageArticleCommand.withPageSize(4).execute(model);
+        CommandResult result = PageArticleCommand.withPageSize(0).execute(model);
+
+        assertEquals(String.format(PageArticleCommand.MESSAGE_ALL_SHOWN, 6), result.getFeedbackToUser());
+        assertEquals(model.getFilteredArticleList(), model.getPagedArticleList());
+    }
+
+    @Test
+    public void execute_notPaged_throwsCommandException() {
+        assertCommandFailure(PageArticleCommand.toNextPage(), model, PageArticleCommand.MESSAGE_NOT_PAGED);
+    }
+
+    @Test
+    public void execute_noSuchPage_throwsCommandException() throws CommandException {
+        PageArticleCommand.withPageSize(4).execute(model);
+        String expectedMessage = String.format(PageArticleCommand.MESSAGE_INVALID_PAGE, 2);
+
+        assertCommandFailure(PageArticleCommand.toPage(2), model, expectedMessage);
+        assertCommandFailure(PageArticleCommand.toPreviousPage(), model, expectedMessage);
+    }
+
+    @Test
+    public void equals() {
+        PageArticleCommand toFirstPage = PageArticleCommand.toPage(0);
+
+        // same object -> returns true
+        assertTrue(toFirstPage.equals(toFirstPage));
+
+        // same values -> returns true
+        assertTrue(toFirstPage.equals(PageArticleCommand.toPage(0)));
+
+        // different types -> returns false
+        assertFalse(toFirstPage.equals(1));
+
+        // null -> returns false
+        assertFalse(toFirstPage.equals(null));
+
+        // different page -> returns false
+        assertFalse(toFirstPage.equals(PageArticleCommand.toPage(1)));
+
+        // different action -> returns false
+        assertFalse(toFirstPage.equals(PageArticleCommand.withPageSize(0)));
+    }
+}
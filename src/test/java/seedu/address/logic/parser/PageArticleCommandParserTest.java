@@ -0,0 +1,36 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.articlecommands.PageArticleCommand;
+
+public class PageArticleCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, PageArticleCommand.MESSAGE_USAGE);
+
+    private final PageArticleCommandParser parser = new PageArticleCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsPageArticleCommand() {
+        assertParseSuccess(parser, " next", PageArticleCommand.toNextPage());
+        assertParseSuccess(parser, " PREV ", PageArticleCommand.toPreviousPage());
+        assertParseSuccess(parser, " 3", PageArticleCommand.toPage(2));
+        assertParseSuccess(parser, " size  50", PageArticleCommand.withPageSize(50));
+        assertParseSuccess(parser, " size 0", PageArticleCommand.withPageSize(0));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " 0", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " next 2", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " size", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " size -1", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " width 50", MESSAGE_INVALID_FORMAT);
+    }
+}
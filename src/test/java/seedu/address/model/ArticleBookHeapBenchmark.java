@@ -0,0 +1,69 @@
+package seedu.address.model;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.model.article.Article;
+import seedu.address.model.article.Author;
+import seedu.address.model.article.Link;
+import seedu.address.model.article.Outlet;
+import seedu.address.model.article.PublicationDate;
+import seedu.address.model.article.Source;
+import seedu.address.model.article.Title;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Measures how much heap an article book takes per article, on a synthetic book of 100k articles with zero to two
+ * authors, sources and tags each, drawn from a few thousand names.
+ *
+ * Not one of the tests. Run its main method with a fixed heap, e.g. {@code -Xms1g -Xmx1g}, for steady results.
+ */
+public class ArticleBookHeapBenchmark {
+    private static final int ARTICLE_COUNT = 100_000;
+    private static final int NAME_COUNT = 3000;
+    private static final int TAG_COUNT = 50;
+    private static final int OUTLET_COUNT = 20;
+
+    public static void main(String[] args) throws InterruptedException {
+        long heapBefore = getUsedHeap();
+        ArticleBook articleBook = createArticleBook();
+        long heapAfter = getUsedHeap();
+
+        System.out.printf("%d articles take %d bytes each%n", articleBook.getArticleList().size(),
+                (heapAfter - heapBefore) / ARTICLE_COUNT);
+    }
+
+    private static ArticleBook createArticleBook() {
+        ArticleBook articleBook = new ArticleBook();
+        LocalDateTime firstDate = LocalDateTime.of(2000, 1, 1, 0, 0);
+        for (int i = 0; i < ARTICLE_COUNT; i++) {
+            Set<Author> authors = createNames(i % 3, i, NAME_COUNT, id -> Author.of("Author " + id));
+            Set<Source> sources = createNames((i / 3) % 3, i * 7, NAME_COUNT, id -> Source.of("Source " + id));
+            Set<Tag> tags = createNames((i / 9) % 3, i * 13, TAG_COUNT, id -> Tag.of("Tag " + id));
+            Set<Outlet> outlets = createNames(1, i, OUTLET_COUNT, id -> Outlet.of("Outlet " + id));
+            articleBook.addArticle(new Article(new Title("Article " + i), authors, sources, tags, outlets,
+                    new PublicationDate(firstDate.plusHours(i)), Article.Status.values()[i % 3],
+                    new Link("https://www.example.com/articles/" + i)));
+        }
+        return articleBook;
+    }
+
+    private static <T> Set<T> createNames(int count, int seed, int nameCount, Function<Integer, T> toName) {
+        Set<T> names = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            names.add(toName.apply((seed + i * 31) % nameCount));
+        }
+        return names;
+    }
+
+    private static long getUsedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
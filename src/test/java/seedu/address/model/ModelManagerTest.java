@@ -11,12 +11,20 @@ import static seedu.address.testutil.TypicalPersons.BENSON;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.article.Article;
+import seedu.address.model.article.ArticleMatchesStatusPredicate;
+import seedu.address.model.article.Author;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.ArticleBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -93,6 +101,60 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void setPerson_renamedInManyArticles_articleListToldOnce() {
+        modelManager.addPerson(ALICE);
+        for (int i = 0; i < 3; i++) {
+            modelManager.addArticle(new ArticleBuilder().withTitle("Article " + i).withStatus("PUBLISHED")
+                    .withAuthors(ALICE.getName().fullName).build());
+        }
+        int[] changeCount = new int[1];
+        modelManager.getFilteredArticleList().addListener((ListChangeListener<Article>) change -> changeCount[0]++);
+
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alice Renamed").build();
+        modelManager.setPerson(ALICE, renamedAlice);
+
+        assertEquals(1, changeCount[0]);
+        assertTrue(modelManager.getFilteredArticleList().stream()
+                .allMatch(article -> article.getAuthors().equals(Set.of(Author.of("Alice Renamed")))));
+    }
+
+    @Test
+    public void setPerson_renamedInArticle_articleReplacedNotChanged() {
+        modelManager.addPerson(ALICE);
+        Article article = new ArticleBuilder().withStatus("PUBLISHED").withAuthors(ALICE.getName().fullName).build();
+        modelManager.addArticle(article);
+
+        modelManager.setPerson(ALICE, new PersonBuilder(ALICE).withName("Alice Renamed").build());
+
+        Article renamedArticle = modelManager.getFilteredArticleList().get(0);
+        assertEquals(article.getId(), renamedArticle.getId());
+        assertEquals(Set.of(Author.of("Alice Renamed")), renamedArticle.getAuthors());
+        assertEquals(Set.of(Author.of(ALICE.getName().fullName)), article.getAuthors());
+    }
+
+    @Test
+    public void setArticle_filterActive_editedArticleStillShown() throws Exception {
+        Article article = new ArticleBuilder().withTitle("Old Title").withStatus("PUBLISHED").build();
+        modelManager.addArticle(article);
+        modelManager.updateFilteredArticleList(new ArticleMatchesStatusPredicate("published"));
+
+        Article editedArticle = new ArticleBuilder(article).withTitle("New Title").build();
+        modelManager.setArticle(article, editedArticle);
+
+        assertEquals(Arrays.asList(editedArticle), modelManager.getFilteredArticleList());
+    }
+
+    @Test
+    public void setArticle_sameArticle_articleStillShown() throws Exception {
+        Article article = new ArticleBuilder().withTitle("Old Title").withStatus("PUBLISHED").build();
+        modelManager.addArticle(article);
+        modelManager.setArticle(article, article);
+
+        modelManager.updateFilteredArticleList(new ArticleMatchesStatusPredicate("published"));
+        assertEquals(Arrays.asList(article), modelManager.getFilteredArticleList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
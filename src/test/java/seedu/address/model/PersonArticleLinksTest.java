@@ -0,0 +1,105 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.article.Article;
+import seedu.address.model.article.Author;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.ArticleBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonArticleLinksTest {
+
+    private final Person alice = new PersonBuilder().withName("Alice Pauline").build();
+    private final Person bob = new PersonBuilder().withName("Bob Choo").build();
+    private final Article byAlice = new ArticleBuilder().withTitle("By Alice").withStatus("PUBLISHED")
+            .withAuthors("Alice Pauline").withSources().build();
+    private final Article aboutAliceAndBob = new ArticleBuilder().withTitle("About Alice and Bob")
+            .withStatus("PUBLISHED").withAuthors("Carl Kurz").withSources("Alice Pauline", "Bob Choo").build();
+
+    private AddressBook addressBook;
+    private ArticleBook articleBook;
+    private PersonArticleLinks links;
+
+    @BeforeEach
+    public void setUp() {
+        addressBook = new AddressBook();
+        addressBook.addPerson(alice);
+        addressBook.addPerson(bob);
+        articleBook = new ArticleBook();
+        articleBook.addArticle(byAlice);
+        articleBook.addArticle(aboutAliceAndBob);
+        links = new PersonArticleLinks(addressBook, articleBook);
+        links.relinkAll();
+    }
+
+    @Test
+    public void relinkAll_namedPersons_linked() {
+        assertEquals(Set.of(byAlice.getId(), aboutAliceAndBob.getId()), links.getArticleIds(alice));
+        assertEquals(Set.of(aboutAliceAndBob.getId()), links.getArticleIds(bob));
+        assertEquals(Set.of(alice.getId(), bob.getId()), links.getPersonIds(aboutAliceAndBob));
+    }
+
+    @Test
+    public void personSet_renamedPerson_linkedArticlesRenamed() {
+        Person renamedAlice = new Person(alice.getId(), new Name("Alice Renamed"), alice.getPhone(), alice.getEmail(),
+                alice.getAddress(), alice.getTags());
+        addressBook.setPerson(alice, renamedAlice);
+
+        assertTrue(links.personSet(alice, renamedAlice));
+        assertEquals(Set.of(Author.of("Alice Renamed")),
+                articleBook.findArticleById(byAlice.getId()).get().getAuthors());
+        assertEquals(Set.of(byAlice.getId(), aboutAliceAndBob.getId()), links.getArticleIds(renamedAlice));
+    }
+
+    @Test
+    public void personSet_nameUnchanged_noArticleRenamed() {
+        Person editedAlice = new PersonBuilder(alice).withPhone("99999999").build();
+        addressBook.setPerson(alice, editedAlice);
+
+        assertFalse(links.personSet(alice, editedAlice));
+        assertEquals(Set.of(), links.getArticleIds(alice));
+        assertEquals(Set.of(byAlice.getId(), aboutAliceAndBob.getId()), links.getArticleIds(editedAlice));
+    }
+
+    @Test
+    public void articleSet_editedArticle_relinked() {
+        Article editedArticle = new Article(byAlice.getId(), byAlice.getTitle(), Set.of(Author.of("Bob Choo")),
+                byAlice.getSources(), byAlice.getTags(), byAlice.getOutlets(), byAlice.getPublicationDate(),
+                byAlice.getStatus(), byAlice.getLink());
+        articleBook.setArticle(byAlice, editedArticle);
+        links.articleSet(byAlice, editedArticle);
+
+        assertEquals(Set.of(aboutAliceAndBob.getId()), links.getArticleIds(alice));
+        assertEquals(Set.of(byAlice.getId(), aboutAliceAndBob.getId()), links.getArticleIds(bob));
+    }
+
+    @Test
+    public void personAddedAndRemoved_linksUpdated() {
+        Person carl = new PersonBuilder().withName("Carl Kurz").build();
+        addressBook.addPerson(carl);
+        links.personAdded(carl);
+        assertEquals(Set.of(aboutAliceAndBob.getId()), links.getArticleIds(carl));
+
+        addressBook.removePerson(bob);
+        links.personRemoved(bob);
+        assertEquals(Set.of(alice.getId(), carl.getId()), links.getPersonIds(aboutAliceAndBob));
+    }
+
+    @Test
+    public void articleRemoved_linksDropped() {
+        articleBook.removeArticle(byAlice);
+        links.articleRemoved(byAlice);
+
+        assertEquals(Set.of(aboutAliceAndBob.getId()), links.getArticleIds(alice));
+        assertEquals(Set.of(), links.getPersonIds(byAlice));
+    }
+}
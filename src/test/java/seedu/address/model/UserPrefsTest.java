@@ -1,9 +1,14 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.util.FileUtil.SyncPolicy;
+
 public class UserPrefsTest {
 
     @Test
@@ -18,4 +23,44 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void constructor_copy_allPrefsKept() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setArticleBookJournaled(true);
+        userPrefs.setArticleBookBinary(true);
+        userPrefs.setDataFileCompact(true);
+        userPrefs.setDataFileSyncPolicy(SyncPolicy.FILE_AND_FOLDER);
+        userPrefs.setArticlePageSize(50);
+
+        UserPrefs copy = new UserPrefs(userPrefs);
+        assertTrue(copy.isArticleBookJournaled());
+        assertTrue(copy.isArticleBookBinary());
+        assertTrue(copy.isDataFileCompact());
+        assertEquals(SyncPolicy.FILE_AND_FOLDER, copy.getDataFileSyncPolicy());
+        assertEquals(50, copy.getArticlePageSize());
+        assertEquals(userPrefs, copy);
+    }
+
+    @Test
+    public void equals() {
+        UserPrefs userPrefs = new UserPrefs();
+        UserPrefs journaled = new UserPrefs();
+        journaled.setArticleBookJournaled(true);
+        UserPrefs binary = new UserPrefs();
+        binary.setArticleBookBinary(true);
+        UserPrefs compact = new UserPrefs();
+        compact.setDataFileCompact(true);
+        UserPrefs synced = new UserPrefs();
+        synced.setDataFileSyncPolicy(SyncPolicy.NONE);
+        UserPrefs paged = new UserPrefs();
+        paged.setArticlePageSize(50);
+
+        assertEquals(new UserPrefs(), userPrefs);
+        assertNotEquals(userPrefs, journaled);
+        assertNotEquals(userPrefs, binary);
+        assertNotEquals(userPrefs, compact);
+        assertNotEquals(userPrefs, synced);
+        assertNotEquals(userPrefs, paged);
+    }
+
 }
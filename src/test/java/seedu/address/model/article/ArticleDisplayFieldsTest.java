@@ -0,0 +1,46 @@
+package seedu.address.model.article;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.ArticleBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class ArticleDisplayFieldsTest {
+
+    private final Article article = new ArticleBuilder().withAuthors("Zoe Tan", "Amy Bee")
+            .withSources("Mark Lee", "Bob Choo").withTags("Science", "Health").withOutlets("Today", "CNA")
+            .withPublicationDate("03-01-2021").build();
+
+    @Test
+    public void getDisplayFields_namesSortedAndDateFormatted() {
+        ArticleDisplayFields displayFields = article.getDisplayFields();
+        assertEquals(List.of("Amy Bee", "Zoe Tan"), displayFields.getAuthorNames());
+        assertEquals(List.of("Bob Choo", "Mark Lee"), displayFields.getSourceNames());
+        assertEquals(List.of("Health", "Science"), displayFields.getTagNames());
+        assertEquals(List.of("CNA", "Today"), displayFields.getOutletNames());
+        assertEquals(article.getPublicationDateAsString(), displayFields.getPublicationDate());
+    }
+
+    @Test
+    public void getDisplayFields_askedAgain_sameFields() {
+        assertSame(article.getDisplayFields(), article.getDisplayFields());
+    }
+
+    @Test
+    public void getDisplayFields_afterRename_renamedCopyUpdated() {
+        ArticleDisplayFields displayFields = article.getDisplayFields();
+        Person zoe = new PersonBuilder().withName("Zoe Tan").build();
+        Person renamedZoe = new PersonBuilder().withName("Alan Zoe").build();
+        Article renamedArticle = article.withNamesUpdated(zoe, renamedZoe);
+
+        assertSame(displayFields, article.getDisplayFields());
+        assertEquals(List.of("Amy Bee", "Zoe Tan"), article.getDisplayFields().getAuthorNames());
+        assertEquals(List.of("Alan Zoe", "Amy Bee"), renamedArticle.getDisplayFields().getAuthorNames());
+    }
+}
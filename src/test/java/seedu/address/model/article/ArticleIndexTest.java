@@ -0,0 +1,108 @@
+package seedu.address.model.article;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalArticles.getTypicalArticles;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.ArticleBuilder;
+
+public class ArticleIndexTest {
+
+    private static final PublicationDate EARLIEST = new PublicationDate(LocalDateTime.MIN);
+    private static final PublicationDate LATEST = new PublicationDate(LocalDateTime.MAX);
+
+    private final ArticleIndex index = new ArticleIndex();
+    private final List<Article> articles = getTypicalArticles();
+
+    @BeforeEach
+    public void setUp() {
+        articles.forEach(index::add);
+    }
+
+    @Test
+    public void toIndexedPredicate_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.toIndexedPredicate(null));
+    }
+
+    @Test
+    public void toIndexedPredicate_noIndexedClause_returnsSamePredicate() {
+        Predicate<Article> predicate = article -> true;
+        assertSame(predicate, index.toIndexedPredicate(predicate));
+    }
+
+    @Test
+    public void toIndexedPredicate_singleClauses_agreeWithScan() throws Exception {
+        assertAgreesWithScan(new ArticleMatchesStatusPredicate("DRAFT"));
+        assertAgreesWithScan(new ArticleMatchesTagPredicate(new Tag("Science")));
+        assertAgreesWithScan(new ArticleMatchesTimePeriodPredicate(
+                ParserUtil.parsePublicationDate("01-02-2021"), ParserUtil.parsePublicationDate("01-07-2021")));
+        assertAgreesWithScan(new TitleContainsKeywordsPredicate(Arrays.asList("once", "SIX")));
+    }
+
+    @Test
+    public void toIndexedPredicate_conjunctionWithResidualClause_agreesWithScan() throws Exception {
+        Predicate<Article> residual = article -> article.getTitle().fullTitle.startsWith("F");
+        assertAgreesWithScan(new ArticleMatchesAllPredicate(Arrays.asList(
+                new ArticleMatchesStatusPredicate("DRAFT"),
+                new ArticleMatchesTimePeriodPredicate(EARLIEST, LATEST),
+                residual)));
+        assertAgreesWithScan(new ArticleMatchesAllPredicate(Arrays.asList(
+                new ArticleMatchesStatusPredicate("PUBLISHED"),
+                new ArticleMatchesTagPredicate(new Tag("Meme")),
+                new ArticleMatchesTimePeriodPredicate(EARLIEST, LATEST))));
+        assertAgreesWithScan(new ArticleMatchesAllPredicate(Arrays.asList(
+                new ArticleMatchesStatusPredicate("ARCHIVED"),
+                new ArticleMatchesTagPredicate(new Tag("Science")))));
+    }
+
+    @Test
+    public void toIndexedPredicate_indexChanges_reflectsLatestContents() throws Exception {
+        Predicate<Article> predicate = index.toIndexedPredicate(new ArticleMatchesAllPredicate(Arrays.asList(
+                new ArticleMatchesStatusPredicate("PUBLISHED"),
+                new ArticleMatchesTagPredicate(new Tag("Breaking")))));
+        Article breaking = new ArticleBuilder().withTitle("Breaking news").withStatus("PUBLISHED")
+                .withTags("Breaking").build();
+        assertFalse(predicate.test(breaking));
+
+        index.add(breaking);
+        assertTrue(predicate.test(breaking));
+
+        index.remove(breaking);
+        assertFalse(predicate.test(breaking));
+
+        index.add(breaking);
+        index.clear();
+        assertFalse(predicate.test(breaking));
+    }
+
+    @Test
+    public void toIndexedPredicate_identicalDrafts_matchedSeparately() throws Exception {
+        Article draft = articles.get(0);
+        Article copyOfDraft = new ArticleBuilder(draft).build();
+        Predicate<Article> predicate = index.toIndexedPredicate(
+                new TitleContainsKeywordsPredicate(Collections.singletonList("once")));
+        assertTrue(predicate.test(draft));
+        assertFalse(predicate.test(copyOfDraft));
+    }
+
+    private void assertAgreesWithScan(Predicate<Article> predicate) {
+        Predicate<Article> indexed = index.toIndexedPredicate(predicate);
+        for (Article article : articles) {
+            assertEquals(predicate.test(article), indexed.test(article), article.toString());
+        }
+    }
+}
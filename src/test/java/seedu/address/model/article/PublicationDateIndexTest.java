@@ -0,0 +1,70 @@
+package seedu.address.model.article;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalArticles.ONCE;
+import static seedu.address.testutil.TypicalArticles.SIX;
+import static seedu.address.testutil.TypicalArticles.THRICE;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.testutil.ArticleBuilder;
+
+public class PublicationDateIndexTest {
+
+    private static final PublicationDate EARLIEST = new PublicationDate(LocalDateTime.MIN);
+    private static final PublicationDate LATEST = new PublicationDate(LocalDateTime.MAX);
+
+    private final PublicationDateIndex index = new PublicationDateIndex();
+
+    @Test
+    public void findBetween_nullDate_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.findBetween(null, LATEST));
+        assertThrows(NullPointerException.class, () -> index.findBetween(EARLIEST, null));
+    }
+
+    @Test
+    public void findBetween_range_excludesEndpoints() throws ParseException {
+        index.add(ONCE);
+        index.add(THRICE);
+        index.add(SIX);
+
+        Set<Article> matches = index.findBetween(ONCE.getPublicationDate(), SIX.getPublicationDate());
+        assertEquals(1, matches.size());
+        assertTrue(matches.contains(THRICE));
+
+        assertEquals(3, index.findBetween(EARLIEST, LATEST).size());
+        assertTrue(index.findBetween(ParserUtil.parsePublicationDate("01-01-2022"), LATEST).isEmpty());
+        assertTrue(index.findBetween(SIX.getPublicationDate(), ONCE.getPublicationDate()).isEmpty());
+    }
+
+    @Test
+    public void findBetween_afterRemoveAndClear_returnsNothing() {
+        index.add(ONCE);
+        index.remove(ONCE);
+        assertTrue(index.findBetween(EARLIEST, LATEST).isEmpty());
+
+        index.add(THRICE);
+        index.clear();
+        assertTrue(index.findBetween(EARLIEST, LATEST).isEmpty());
+    }
+
+    @Test
+    public void findBetween_articlesWithSameDate_trackedSeparately() {
+        Article copyOfOnce = new ArticleBuilder(ONCE).build();
+        index.add(ONCE);
+        index.add(copyOfOnce);
+        assertEquals(2, index.findBetween(EARLIEST, LATEST).size());
+
+        index.remove(ONCE);
+        Set<Article> matches = index.findBetween(EARLIEST, LATEST);
+        assertEquals(1, matches.size());
+        assertTrue(matches.contains(copyOfOnce));
+    }
+}
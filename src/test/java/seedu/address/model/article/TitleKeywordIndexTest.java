@@ -0,0 +1,64 @@
+package seedu.address.model.article;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalArticles.NVIDIA;
+import static seedu.address.testutil.TypicalArticles.ONCE;
+import static seedu.address.testutil.TypicalArticles.THRICE;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.ArticleBuilder;
+
+public class TitleKeywordIndexTest {
+
+    private final TitleKeywordIndex index = new TitleKeywordIndex();
+
+    @Test
+    public void findAny_nullKeywords_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.findAny(null));
+    }
+
+    @Test
+    public void findAny_keywordsInTitles_returnsUnionIgnoringCase() {
+        index.add(ONCE);
+        index.add(THRICE);
+        index.add(NVIDIA);
+
+        Set<Article> matches = index.findAny(Arrays.asList("oNcE", "thrice"));
+        assertEquals(2, matches.size());
+        assertTrue(matches.contains(ONCE));
+        assertTrue(matches.contains(THRICE));
+
+        assertEquals(2, index.findAny(Arrays.asList("once", "time")).size());
+        assertTrue(index.findAny(Collections.singletonList("Onc")).isEmpty()); // partial word
+    }
+
+    @Test
+    public void findAny_afterRemoveAndClear_returnsNothing() {
+        index.add(ONCE);
+        index.remove(ONCE);
+        assertTrue(index.findAny(Collections.singletonList("once")).isEmpty());
+
+        index.add(THRICE);
+        index.clear();
+        assertTrue(index.findAny(Collections.singletonList("thrice")).isEmpty());
+    }
+
+    @Test
+    public void findAny_identicalDrafts_trackedSeparately() {
+        Article copyOfOnce = new ArticleBuilder(ONCE).build();
+        index.add(ONCE);
+        index.add(copyOfOnce);
+        index.remove(ONCE);
+
+        Set<Article> matches = index.findAny(Collections.singletonList("once"));
+        assertEquals(1, matches.size());
+        assertTrue(matches.contains(copyOfOnce));
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.model.article;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -76,5 +77,13 @@ public class TitleTest {
 
         // different title -> returns false
         assertFalse(title.equals(new Title("not my title")));
+
+        // different case and spacing -> returns true
+        assertTrue(title.equals(new Title("My  TITLE ")));
+    }
+
+    @Test
+    public void hashCode_equalTitles_sameHashCode() {
+        assertEquals(new Title("my title").hashCode(), new Title("My  TITLE ").hashCode());
     }
 }
@@ -0,0 +1,101 @@
+package seedu.address.model.article;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalArticles.NVIDIA;
+import static seedu.address.testutil.TypicalArticles.ONCE;
+import static seedu.address.testutil.TypicalArticles.THRICE;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.ArticleBuilder;
+
+public class UniqueArticleListTest {
+
+    private final UniqueArticleList uniqueArticleList = new UniqueArticleList();
+
+    @Test
+    public void contains_nullArticle_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueArticleList.contains(null));
+    }
+
+    @Test
+    public void contains_articleNotInList_returnsFalse() {
+        assertFalse(uniqueArticleList.contains(NVIDIA));
+    }
+
+    @Test
+    public void contains_articleInList_returnsTrue() {
+        uniqueArticleList.add(NVIDIA);
+        assertTrue(uniqueArticleList.contains(NVIDIA));
+    }
+
+    @Test
+    public void contains_publishedArticleWithSameTitleDifferentCaseAndSpacing_returnsTrue() {
+        uniqueArticleList.add(THRICE);
+        Article editedThrice = new ArticleBuilder(THRICE).withTitle("THRICE  upon a   TIME ")
+                .withStatus("ARCHIVED").build();
+        assertTrue(uniqueArticleList.contains(editedThrice));
+    }
+
+    @Test
+    public void contains_draftWithSameTitle_returnsFalse() {
+        uniqueArticleList.add(ONCE);
+        Article copyOfOnce = new ArticleBuilder(ONCE).build();
+        assertTrue(uniqueArticleList.contains(ONCE));
+        assertFalse(uniqueArticleList.contains(copyOfOnce));
+    }
+
+    @Test
+    public void contains_afterRemove_returnsFalse() {
+        uniqueArticleList.add(NVIDIA);
+        uniqueArticleList.remove(NVIDIA);
+        assertFalse(uniqueArticleList.contains(NVIDIA));
+    }
+
+    @Test
+    public void contains_afterSetArticle_tracksEditedArticle() {
+        uniqueArticleList.add(NVIDIA);
+        Article editedNvidia = new ArticleBuilder(NVIDIA).withTitle("A different headline").build();
+        uniqueArticleList.setArticle(NVIDIA, editedNvidia);
+        assertFalse(uniqueArticleList.contains(NVIDIA));
+        assertTrue(uniqueArticleList.contains(editedNvidia));
+    }
+
+    @Test
+    public void contains_afterSetArticles_tracksReplacementList() {
+        uniqueArticleList.add(NVIDIA);
+        uniqueArticleList.setArticles(Arrays.asList(ONCE, THRICE));
+        assertFalse(uniqueArticleList.contains(NVIDIA));
+        assertTrue(uniqueArticleList.contains(ONCE));
+        assertTrue(uniqueArticleList.contains(THRICE));
+    }
+
+    @Test
+    public void findById_afterSortAndRemove_findsMovedArticles() {
+        uniqueArticleList.setArticles(Arrays.asList(ONCE, NVIDIA, THRICE));
+        uniqueArticleList.sortArticles(PREFIX_DATE.getPrefix());
+        uniqueArticleList.remove(NVIDIA);
+
+        assertEquals(Optional.of(ONCE), uniqueArticleList.findById(ONCE.getId()));
+        assertEquals(Optional.of(THRICE), uniqueArticleList.findById(THRICE.getId()));
+        assertEquals(Optional.empty(), uniqueArticleList.findById(NVIDIA.getId()));
+        assertEquals(uniqueArticleList.asUnmodifiableObservableList().indexOf(THRICE),
+                uniqueArticleList.indexOf(THRICE));
+    }
+
+    @Test
+    public void indexOf_equalArticleWithOtherId_notFound() {
+        uniqueArticleList.add(ONCE);
+        uniqueArticleList.add(THRICE);
+        assertEquals(1, uniqueArticleList.indexOf(THRICE));
+        assertEquals(-1, uniqueArticleList.indexOf(new ArticleBuilder(THRICE).build()));
+        assertEquals(-1, uniqueArticleList.indexOf(NVIDIA));
+    }
+}
@@ -14,6 +14,7 @@ import static seedu.address.testutil.TypicalPersons.CARL;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -49,6 +50,47 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithSameNameDifferentCaseAndSpacing_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withName("alice   PAULINE").build();
+        assertTrue(uniquePersonList.contains(editedAlice));
+    }
+
+    @Test
+    public void findByName_nullName_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.findByName(null));
+    }
+
+    @Test
+    public void findByName_personInList_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        assertEquals(Optional.of(ALICE), uniquePersonList.findByName(ALICE.getName()));
+        assertEquals(Optional.empty(), uniquePersonList.findByName(BOB.getName()));
+    }
+
+    @Test
+    public void findByName_afterSetPersonAndRemove_tracksChanges() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertEquals(Optional.empty(), uniquePersonList.findByName(ALICE.getName()));
+        assertEquals(Optional.of(BOB), uniquePersonList.findByName(BOB.getName()));
+        uniquePersonList.remove(BOB);
+        assertFalse(uniquePersonList.contains(BOB));
+        uniquePersonList.setPersons(Collections.singletonList(CARL));
+        assertEquals(Optional.of(CARL), uniquePersonList.findByName(CARL.getName()));
+    }
+
+    @Test
+    public void findByFullName_exactMatchOnly() {
+        uniquePersonList.add(ALICE);
+        assertEquals(Optional.of(ALICE), uniquePersonList.findByFullName(ALICE.getNameString()));
+        assertEquals(Optional.empty(), uniquePersonList.findByFullName(ALICE.getNameString().toUpperCase()));
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertEquals(Optional.empty(), uniquePersonList.findByFullName(ALICE.getNameString()));
+        assertEquals(Optional.of(BOB), uniquePersonList.findByFullName(BOB.getNameString()));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -129,6 +171,30 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_equalPersonWithOtherId_removesPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(new PersonBuilder(ALICE).build());
+        assertEquals(new UniquePersonList(), uniquePersonList);
+    }
+
+    @Test
+    public void findById_afterSortAndRemove_findsMovedPersons() {
+        uniquePersonList.add(CARL);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(ALICE);
+        uniquePersonList.sortPersons(PREFIX_NAME.getPrefix());
+        uniquePersonList.remove(BOB);
+
+        assertEquals(Optional.of(ALICE), uniquePersonList.findById(ALICE.getId()));
+        assertEquals(Optional.of(CARL), uniquePersonList.findById(CARL.getId()));
+        assertEquals(Optional.empty(), uniquePersonList.findById(BOB.getId()));
+
+        Person editedCarl = new PersonBuilder(CARL).withPhone("99999999").build();
+        uniquePersonList.setPerson(CARL, editedCarl);
+        assertEquals(Arrays.asList(ALICE, editedCarl), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -0,0 +1,244 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalArticles.FOUR;
+import static seedu.address.testutil.TypicalArticles.INTEL;
+import static seedu.address.testutil.TypicalArticles.NVIDIA;
+import static seedu.address.testutil.TypicalArticles.getTypicalArticleBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ArticleBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyArticleBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.article.Article;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryArticleBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.bin");
+        assertFalse(new BinaryArticleBookStorage(filePath).readArticleBook().isPresent());
+    }
+
+    @Test
+    public void read_notBinaryFormat_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("TempArticleBook.bin");
+        FileUtil.writeToFile(filePath, "{ \"articles\" : [ ] }");
+        assertThrows(DataLoadingException.class, () -> new BinaryArticleBookStorage(filePath).readArticleBook());
+    }
+
+    @Test
+    public void read_truncatedFile_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("TempArticleBook.bin");
+        new BinaryArticleBookStorage(filePath).saveArticleBook(getTypicalArticleBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertThrows(DataLoadingException.class, () -> new BinaryArticleBookStorage(filePath).readArticleBook());
+    }
+
+    @Test
+    public void readAndSaveArticleBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempArticleBook.bin");
+        ArticleBook original = getTypicalArticleBook();
+        BinaryArticleBookStorage binaryArticleBookStorage = new BinaryArticleBookStorage(filePath);
+
+        binaryArticleBookStorage.saveArticleBook(original);
+        assertEquals(original, new ArticleBook(binaryArticleBookStorage.readArticleBook().get()));
+
+        original.addArticle(NVIDIA);
+        original.addArticle(INTEL);
+        binaryArticleBookStorage.saveArticleBook(original);
+        assertEquals(original, new ArticleBook(binaryArticleBookStorage.readArticleBook().get()));
+    }
+
+    @Test
+    public void readArticleBook_archivedArticles_loadedOnlyWhenNeeded() throws Exception {
+        Path filePath = testFolder.resolve("TempArticleBook.bin");
+        BinaryArticleBookStorage binaryArticleBookStorage = new BinaryArticleBookStorage(filePath);
+        binaryArticleBookStorage.saveArticleBook(getTypicalArticleBook());
+
+        List<Article> articles = binaryArticleBookStorage.readArticleBook().get().getArticleList();
+        for (Article article : articles) {
+            assertEquals(article.getStatus() != Article.Status.ARCHIVED, article.isDetailsLoaded());
+        }
+
+        Article archived = articles.get(articles.indexOf(FOUR));
+        assertEquals(FOUR.getAuthors(), archived.getAuthors());
+        assertTrue(archived.isDetailsLoaded());
+    }
+
+    @Test
+    public void readArticleBook_archivedArticlesHashedComparedAndRemoved_notLoaded() throws Exception {
+        Path filePath = testFolder.resolve("TempArticleBook.bin");
+        BinaryArticleBookStorage binaryArticleBookStorage = new BinaryArticleBookStorage(filePath);
+        binaryArticleBookStorage.saveArticleBook(getTypicalArticleBook());
+        ArticleBook articleBook = new ArticleBook(binaryArticleBookStorage.readArticleBook().get());
+        List<Article> archivedArticles = articleBook.getArticleList().stream()
+                .filter(article -> article.getStatus() == Article.Status.ARCHIVED)
+                .collect(Collectors.toList());
+
+        articleBook.hashCode();
+        articleBook.toString();
+        assertEquals(-1, articleBook.getArticleList().indexOf(NVIDIA));
+        articleBook.removeArticle(archivedArticles.get(0));
+
+        assertTrue(archivedArticles.stream().noneMatch(Article::isDetailsLoaded));
+    }
+
+    @Test
+    public void saveArticleBook_unloadedArchivedArticles_savedWithoutLoading() throws Exception {
+        Path filePath = testFolder.resolve("TempArticleBook.bin");
+        BinaryArticleBookStorage binaryArticleBookStorage = new BinaryArticleBookStorage(filePath);
+        binaryArticleBookStorage.saveArticleBook(getTypicalArticleBook());
+        ArticleBook articleBook = new ArticleBook(binaryArticleBookStorage.readArticleBook().get());
+
+        articleBook.addArticle(NVIDIA);
+        binaryArticleBookStorage.saveArticleBook(articleBook);
+
+        assertTrue(articleBook.getArticleList().stream()
+                .filter(article -> article.getStatus() == Article.Status.ARCHIVED)
+                .noneMatch(Article::isDetailsLoaded));
+        assertEquals(articleBook, new ArticleBook(binaryArticleBookStorage.readArticleBook().get()));
+    }
+
+    @Test
+    public void saveArticleBook_twiceAfterReadingArchivedArticles_fileReplaced() throws Exception {
+        Path filePath = testFolder.resolve("TempArticleBook.bin");
+        BinaryArticleBookStorage binaryArticleBookStorage = new BinaryArticleBookStorage(filePath);
+        binaryArticleBookStorage.saveArticleBook(getTypicalArticleBook());
+        ArticleBook articleBook = new ArticleBook(binaryArticleBookStorage.readArticleBook().get());
+
+        articleBook.addArticle(NVIDIA);
+        binaryArticleBookStorage.saveArticleBook(articleBook);
+        articleBook.addArticle(INTEL);
+        binaryArticleBookStorage.saveArticleBook(articleBook);
+        ArticleBook savedArticleBook = new ArticleBook(new BinaryArticleBookStorage(filePath).readArticleBook().get());
+
+        // Only the private copy stays mapped, so the file and its backup can be deleted even where mapped files cannot.
+        Files.delete(filePath);
+        Files.delete(FileUtil.getBackupPath(filePath));
+        assertTrue(Files.exists(BinaryArticleBookStorage.getMappedCopyPath(filePath)));
+        assertEquals(articleBook, savedArticleBook);
+        List<Article> articles = articleBook.getArticleList();
+        assertEquals(FOUR.getAuthors(), articles.get(articles.indexOf(FOUR)).getAuthors());
+    }
+
+    @Test
+    public void readArticleBook_savedAgainWithUnloadedArticles_idsKept() throws Exception {
+        Path filePath = testFolder.resolve("TempArticleBook.bin");
+        BinaryArticleBookStorage binaryArticleBookStorage = new BinaryArticleBookStorage(filePath);
+        ArticleBook original = getTypicalArticleBook();
+        binaryArticleBookStorage.saveArticleBook(original);
+        ReadOnlyArticleBook readBack = binaryArticleBookStorage.readArticleBook().get();
+        binaryArticleBookStorage.saveArticleBook(readBack);
+
+        assertEquals(getIds(original), getIds(readBack));
+        assertEquals(getIds(original), getIds(binaryArticleBookStorage.readArticleBook().get()));
+    }
+
+    @Test
+    public void lookupPerson_unloadedArchivedArticle_found() throws Exception {
+        Path filePath = testFolder.resolve("TempArticleBook.bin");
+        BinaryArticleBookStorage binaryArticleBookStorage = new BinaryArticleBookStorage(filePath);
+        binaryArticleBookStorage.saveArticleBook(getTypicalArticleBook());
+        AddressBook addressBook = new AddressBook();
+        Person author = new PersonBuilder().withName(FOUR.getAuthors().iterator().next().authorName).build();
+        addressBook.addPerson(author);
+        addressBook.addPerson(ALICE);
+        ModelManager model = new ModelManager(addressBook, binaryArticleBookStorage.readArticleBook().get(),
+                new UserPrefs());
+
+        // Renaming a person named in no archived article does not load any.
+        model.setPerson(ALICE, new PersonBuilder(ALICE).withName("Alice Renamed").build());
+        assertTrue(model.getArticleBook().getArticleList().stream()
+                .filter(article -> article.getStatus() == Article.Status.ARCHIVED)
+                .noneMatch(Article::isDetailsLoaded));
+
+        model.lookupPerson(author);
+        assertEquals(Collections.singletonList(FOUR), model.getFilteredArticleList());
+    }
+
+    @Test
+    public void saveArticleBook_smallerThanJson() throws Exception {
+        Path binaryFilePath = testFolder.resolve("TempArticleBook.bin");
+        Path jsonFilePath = testFolder.resolve("TempArticleBook.json");
+        ArticleBook original = getTypicalArticleBook();
+        new BinaryArticleBookStorage(binaryFilePath).saveArticleBook(original);
+        new JsonArticleBookStorage(jsonFilePath).saveArticleBook(original);
+
+        assertTrue(Files.size(binaryFilePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_success() throws Exception {
+        Path jsonFilePath = testFolder.resolve("TempArticleBook.json");
+        Path binaryFilePath = testFolder.resolve("TempArticleBook.bin");
+        Path convertedFilePath = testFolder.resolve("ConvertedArticleBook.json");
+        ArticleBook original = getTypicalArticleBook();
+        new JsonArticleBookStorage(jsonFilePath).saveArticleBook(original);
+
+        assertEquals(original.getArticleList().size(), ArticleBookConverter.convert(jsonFilePath, binaryFilePath));
+        assertEquals(original, new ArticleBook(new BinaryArticleBookStorage(binaryFilePath).readArticleBook().get()));
+        ArticleBookConverter.convert(binaryFilePath, convertedFilePath);
+        assertEquals(FileUtil.readFromFile(jsonFilePath), FileUtil.readFromFile(convertedFilePath));
+    }
+
+    @Test
+    public void convertIfMissing_onlyJsonFile_converted() throws Exception {
+        Path jsonFilePath = testFolder.resolve("TempArticleBook.json");
+        Path binaryFilePath = testFolder.resolve("TempArticleBook.bin");
+        ArticleBook original = getTypicalArticleBook();
+        new JsonArticleBookStorage(jsonFilePath).saveArticleBook(original);
+
+        assertTrue(ArticleBookConverter.convertIfMissing(jsonFilePath, binaryFilePath));
+        assertEquals(original, new ArticleBook(new BinaryArticleBookStorage(binaryFilePath).readArticleBook().get()));
+
+        // The binary file is not overwritten once it exists.
+        new JsonArticleBookStorage(jsonFilePath).saveArticleBook(new ArticleBook());
+        assertFalse(ArticleBookConverter.convertIfMissing(jsonFilePath, binaryFilePath));
+        assertEquals(original, new ArticleBook(new BinaryArticleBookStorage(binaryFilePath).readArticleBook().get()));
+    }
+
+    @Test
+    public void convertIfMissing_noJsonFile_notConverted() throws Exception {
+        Path binaryFilePath = testFolder.resolve("TempArticleBook.bin");
+        assertFalse(ArticleBookConverter.convertIfMissing(testFolder.resolve("TempArticleBook.json"), binaryFilePath));
+        assertFalse(Files.exists(binaryFilePath));
+    }
+
+    @Test
+    public void toBinaryFilePath() {
+        assertEquals(Paths.get("data", "articlebook.bin"),
+                BinaryArticleBookStorage.toBinaryFilePath(Paths.get("data", "articlebook.json")));
+        assertEquals(Paths.get("data", "articles.bin"),
+                BinaryArticleBookStorage.toBinaryFilePath(Paths.get("data", "articles")));
+    }
+
+    private static List<Long> getIds(ReadOnlyArticleBook articleBook) {
+        return articleBook.getArticleList().stream().map(Article::getId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,164 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalArticles.INTEL;
+import static seedu.address.testutil.TypicalArticles.NVIDIA;
+import static seedu.address.testutil.TypicalArticles.ONCE;
+import static seedu.address.testutil.TypicalArticles.TWICE;
+import static seedu.address.testutil.TypicalArticles.getTypicalArticleBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ArticleBook;
+import seedu.address.model.ReadOnlyArticleBook;
+import seedu.address.testutil.ArticleBuilder;
+
+public class JournalArticleBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingFiles_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.json");
+        assertFalse(new JournalArticleBookStorage(filePath).readArticleBook().isPresent());
+    }
+
+    @Test
+    public void readArticleBook_changesAfterSnapshot_replayed() throws Exception {
+        Path filePath = testFolder.resolve("TempArticleBook.json");
+        JournalArticleBookStorage storage = new JournalArticleBookStorage(filePath);
+        ArticleBook original = getTypicalArticleBook();
+        storage.saveArticleBook(original);
+        storage.startJournal(original);
+        original.addListener(storage);
+
+        original.addArticle(NVIDIA);
+        original.setArticle(TWICE, new ArticleBuilder(TWICE).withStatus("PUBLISHED").build());
+        original.removeArticle(ONCE);
+        original.sortArticleBook(PREFIX_DATE.getPrefix());
+        storage.saveArticleBook(original);
+
+        assertTrue(Files.exists(JournalArticleBookStorage.getJournalPath(filePath)));
+        ReadOnlyArticleBook readBack = new JournalArticleBookStorage(filePath).readArticleBook().get();
+        assertEquals(original, new ArticleBook(readBack));
+    }
+
+    @Test
+    public void readArticleBook_incompleteLastChange_ignored() throws Exception {
+        Path filePath = testFolder.resolve("TempArticleBook.json");
+        JournalArticleBookStorage storage = new JournalArticleBookStorage(filePath);
+        ArticleBook original = getTypicalArticleBook();
+        storage.saveArticleBook(original);
+        storage.startJournal(original);
+        original.addListener(storage);
+        original.addArticle(NVIDIA);
+
+        Path journalPath = JournalArticleBookStorage.getJournalPath(filePath);
+        Files.write(journalPath, "{\"sequence\":2,\"ty".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        JournalArticleBookStorage reopened = new JournalArticleBookStorage(filePath);
+        ArticleBook readBack = new ArticleBook(reopened.readArticleBook().get());
+        assertEquals(original, readBack);
+
+        // Changes made after reopening are appended after the last complete change
+        reopened.startJournal(readBack);
+        readBack.addListener(reopened);
+        readBack.addArticle(INTEL);
+        assertEquals(readBack, new ArticleBook(new JournalArticleBookStorage(filePath).readArticleBook().get()));
+    }
+
+    @Test
+    public void readArticleBook_compactedJournal_changesNotReplayedTwice() throws Exception {
+        Path filePath = testFolder.resolve("TempArticleBook.json");
+        JournalArticleBookStorage storage = new JournalArticleBookStorage(filePath);
+        ArticleBook original = new ArticleBook();
+        storage.saveArticleBook(original);
+        storage.startJournal(original);
+        original.addListener(storage);
+        original.addArticle(NVIDIA);
+        original.addArticle(INTEL);
+
+        // Snapshot taken after the first change, with the whole journal left in place as if compaction crashed
+        Path journalPath = JournalArticleBookStorage.getJournalPath(filePath);
+        ArticleBook afterFirstChange = new ArticleBook();
+        afterFirstChange.addArticle(NVIDIA);
+        JsonUtil.saveJsonFile(JsonArticleBookJournalSnapshot.of(1, afterFirstChange.getArticleList()), filePath);
+        assertTrue(Files.exists(journalPath));
+
+        ReadOnlyArticleBook readBack = new JournalArticleBookStorage(filePath).readArticleBook().get();
+        assertEquals(original, new ArticleBook(readBack));
+    }
+
+    @Test
+    public void saveArticleBook_otherArticleBook_journalCleared() throws Exception {
+        Path filePath = testFolder.resolve("TempArticleBook.json");
+        JournalArticleBookStorage storage = new JournalArticleBookStorage(filePath);
+        ArticleBook journaled = getTypicalArticleBook();
+        storage.saveArticleBook(journaled);
+        storage.startJournal(journaled);
+        journaled.addListener(storage);
+        journaled.addArticle(NVIDIA);
+
+        ArticleBook other = new ArticleBook();
+        other.addArticle(INTEL);
+        storage.saveArticleBook(other);
+
+        assertFalse(Files.exists(JournalArticleBookStorage.getJournalPath(filePath)));
+        assertEquals(other, new ArticleBook(new JournalArticleBookStorage(filePath).readArticleBook().get()));
+    }
+
+    @Test
+    public void readArticleBook_unreadableSnapshot_backupAndJournalUsed() throws Exception {
+        Path filePath = testFolder.resolve("TempArticleBook.json");
+        JournalArticleBookStorage storage = new JournalArticleBookStorage(filePath);
+        ArticleBook original = getTypicalArticleBook();
+        storage.saveArticleBook(original);
+        storage.saveArticleBook(original);
+        storage.startJournal(original);
+        original.addListener(storage);
+        original.addArticle(NVIDIA);
+
+        FileUtil.writeToFile(filePath, "not json");
+        ReadOnlyArticleBook readBack = new JournalArticleBookStorage(filePath).readArticleBook().get();
+        assertEquals(original, new ArticleBook(readBack));
+        // The unreadable snapshot was replaced by its backup.
+        assertEquals(FileUtil.readFromFile(FileUtil.getBackupPath(filePath)), FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void readArticleBook_backupOlderThanJournal_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("TempArticleBook.json");
+        JournalArticleBookStorage storage = new JournalArticleBookStorage(filePath);
+        ArticleBook original = getTypicalArticleBook();
+        storage.saveArticleBook(original);
+        storage.saveArticleBook(original);
+        storage.startJournal(original);
+        original.addListener(storage);
+        original.addArticle(NVIDIA);
+        original.addArticle(INTEL);
+
+        // The journal cut down for a snapshot after the first change, as if that snapshot was then damaged.
+        Path journalPath = JournalArticleBookStorage.getJournalPath(filePath);
+        List<String> changes = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+        Files.write(journalPath, changes.subList(1, changes.size()), StandardCharsets.UTF_8);
+        FileUtil.writeToFile(filePath, "not json");
+
+        assertThrows(DataLoadingException.class, () -> new JournalArticleBookStorage(filePath).readArticleBook());
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static seedu.address.testutil.TypicalArticles.ONCE;
 
@@ -14,6 +15,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.article.Article;
 
 public class JsonAdaptedArticleTest {
+    private static final Long VALID_ID = ONCE.getId();
     private static final String VALID_TITLE = ONCE.getTitle().toString();
     private static final List<JsonAdaptedAuthor> VALID_AUTHORS = ONCE.getAuthors().stream()
             .map(JsonAdaptedAuthor::new).collect(Collectors.toList());
@@ -30,29 +32,43 @@ public class JsonAdaptedArticleTest {
     public void toModelType_validArticleDetails_returnArticle() throws IllegalValueException {
         JsonAdaptedArticle article = new JsonAdaptedArticle(ONCE);
         assertEquals(ONCE, article.toModelType());
+        assertEquals(ONCE.getId(), article.toModelType().getId());
+    }
+    @Test
+    public void toModelType_nullId_newIdGiven() throws IllegalValueException {
+        JsonAdaptedArticle article = new JsonAdaptedArticle(null, VALID_TITLE, VALID_AUTHORS, VALID_SOURCES,
+                VALID_TAGS, VALID_OUTLETS, VALID_DATE, VALID_STATUS, VALID_LINK);
+        assertNotEquals(article.toModelType().getId(), article.toModelType().getId());
+    }
+    @Test
+    public void toModelType_invalidId_returnException() {
+        JsonAdaptedArticle article = new JsonAdaptedArticle(0L, VALID_TITLE, VALID_AUTHORS, VALID_SOURCES,
+                VALID_TAGS, VALID_OUTLETS, VALID_DATE, VALID_STATUS, VALID_LINK);
+        IllegalValueException e = assertThrows(IllegalValueException.class, article::toModelType);
+        assertEquals(JsonAdaptedArticle.MESSAGE_INVALID_ID, e.getMessage());
     }
     @Test
     public void toModelType_invalidName_returnException() {
-        JsonAdaptedArticle article = new JsonAdaptedArticle(null, VALID_AUTHORS, VALID_SOURCES, VALID_TAGS,
+        JsonAdaptedArticle article = new JsonAdaptedArticle(VALID_ID, null, VALID_AUTHORS, VALID_SOURCES, VALID_TAGS,
                 VALID_OUTLETS, VALID_DATE, VALID_STATUS, VALID_LINK);
         assertThrows(IllegalValueException.class, article::toModelType);
     }
     //Test exception throwing when status is null.
     @Test
     public void toModelType_invalidStatus_returnException() {
-        JsonAdaptedArticle article = new JsonAdaptedArticle(VALID_TITLE, VALID_AUTHORS, VALID_SOURCES, VALID_TAGS,
-                VALID_OUTLETS, VALID_DATE, null, VALID_LINK);
+        JsonAdaptedArticle article = new JsonAdaptedArticle(VALID_ID, VALID_TITLE, VALID_AUTHORS, VALID_SOURCES,
+                VALID_TAGS, VALID_OUTLETS, VALID_DATE, null, VALID_LINK);
         assertThrows(IllegalValueException.class, article::toModelType);
     }
     @Test
     public void toModelType_invalidDate_returnException() {
-        JsonAdaptedArticle article = new JsonAdaptedArticle(VALID_TITLE, VALID_AUTHORS, VALID_SOURCES,
+        JsonAdaptedArticle article = new JsonAdaptedArticle(VALID_ID, VALID_TITLE, VALID_AUTHORS, VALID_SOURCES,
                 VALID_TAGS, VALID_OUTLETS, "December", VALID_STATUS, VALID_LINK);
         assertThrows(IllegalValueException.class, article::toModelType);
     }
     @Test
     public void toModelType_invalidDateNull_returnException() {
-        JsonAdaptedArticle article = new JsonAdaptedArticle(VALID_TITLE, VALID_AUTHORS, VALID_SOURCES,
+        JsonAdaptedArticle article = new JsonAdaptedArticle(VALID_ID, VALID_TITLE, VALID_AUTHORS, VALID_SOURCES,
                 VALID_TAGS, VALID_OUTLETS, null, VALID_STATUS, VALID_LINK);
         assertThrows(NullPointerException.class, article::toModelType);
     }
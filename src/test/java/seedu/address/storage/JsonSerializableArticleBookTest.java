@@ -0,0 +1,104 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ArticleBook;
+import seedu.address.model.article.Article;
+import seedu.address.testutil.ArticleBuilder;
+
+public class JsonSerializableArticleBookTest {
+
+    private static final int ARTICLE_COUNT = 3 * ParallelArticleConverter.CHUNK_SIZE + 5;
+
+    @Test
+    public void toModelType_manyArticles_orderKept() throws Exception {
+        ArticleBook articleBook = new ArticleBook();
+        for (int i = 0; i < ARTICLE_COUNT; i++) {
+            articleBook.addArticle(new ArticleBuilder().withTitle("Article " + i).withStatus("PUBLISHED").build());
+        }
+        assertEquals(articleBook, new JsonSerializableArticleBook(articleBook).toModelType());
+    }
+
+    @Test
+    public void toModelType_sharedNames_sameInstances() throws Exception {
+        ArticleBook articleBook = new JsonSerializableArticleBook(getJsonAdaptedArticles()).toModelType();
+        Article first = articleBook.getArticleList().get(0);
+        Article last = articleBook.getArticleList().get(ARTICLE_COUNT - 1);
+
+        assertSame(first.getAuthors().iterator().next(), last.getAuthors().iterator().next());
+        assertSame(first.getTags().iterator().next(), last.getTags().iterator().next());
+    }
+
+    @Test
+    public void toModelType_severalOffendingArticles_firstErrorThrown() {
+        List<JsonAdaptedArticle> articles = getJsonAdaptedArticles();
+        articles.set(ARTICLE_COUNT - 1, withoutTitle());
+        articles.set(2 * ParallelArticleConverter.CHUNK_SIZE, articles.get(0));
+        articles.set(ParallelArticleConverter.CHUNK_SIZE + 1, withoutStatus());
+
+        assertThrows(IllegalValueException.class, "The status is missing", () ->
+                new JsonSerializableArticleBook(articles).toModelType());
+
+        articles.set(ParallelArticleConverter.CHUNK_SIZE + 1, articles.get(1));
+        assertThrows(IllegalValueException.class, JsonSerializableArticleBook.MESSAGE_DUPLICATE_ARTICLE, () ->
+                new JsonSerializableArticleBook(articles).toModelType());
+    }
+
+    @Test
+    public void toModelType_missingDateBeforeOtherErrors_nullPointerExceptionThrown() {
+        List<JsonAdaptedArticle> articles = getJsonAdaptedArticles();
+        articles.set(2 * ParallelArticleConverter.CHUNK_SIZE, withoutStatus());
+        articles.set(ParallelArticleConverter.CHUNK_SIZE + 1, withoutDate());
+
+        assertThrows(NullPointerException.class, () -> new JsonSerializableArticleBook(articles).toModelType());
+
+        articles.set(ParallelArticleConverter.CHUNK_SIZE, withoutTitle());
+        assertThrows(IllegalValueException.class, () -> new JsonSerializableArticleBook(articles).toModelType());
+    }
+
+    @Test
+    public void toModelType_duplicateIds_throwsIllegalValueException() {
+        Article draft = new ArticleBuilder().withStatus("DRAFT").build();
+        List<JsonAdaptedArticle> articles = List.of(new JsonAdaptedArticle(draft), new JsonAdaptedArticle(draft));
+
+        assertThrows(IllegalValueException.class, JsonSerializableArticleBook.MESSAGE_DUPLICATE_ID, () ->
+                new JsonSerializableArticleBook(articles).toModelType());
+    }
+
+    private static List<JsonAdaptedArticle> getJsonAdaptedArticles() {
+        List<JsonAdaptedArticle> articles = new ArrayList<>();
+        for (int i = 0; i < ARTICLE_COUNT; i++) {
+            Article article = new ArticleBuilder().withTitle("Article " + i).withStatus("PUBLISHED").build();
+            articles.add(new JsonAdaptedArticle(article));
+        }
+        return articles;
+    }
+
+    private static JsonAdaptedArticle withoutTitle() {
+        return toJsonAdaptedArticle(null, Article.Status.PUBLISHED);
+    }
+
+    private static JsonAdaptedArticle withoutStatus() {
+        return toJsonAdaptedArticle("Untitled", null);
+    }
+
+    private static JsonAdaptedArticle withoutDate() {
+        Article article = new ArticleBuilder().build();
+        return new JsonAdaptedArticle(null, "Undated", new ArrayList<>(), new ArrayList<>(), new ArrayList<>(),
+                new ArrayList<>(), null, Article.Status.PUBLISHED, article.getLink().link);
+    }
+
+    private static JsonAdaptedArticle toJsonAdaptedArticle(String title, Article.Status status) {
+        Article article = new ArticleBuilder().build();
+        return new JsonAdaptedArticle(null, title, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(),
+                new ArrayList<>(), article.getPublicationDate().toString(), status, article.getLink().link);
+    }
+}
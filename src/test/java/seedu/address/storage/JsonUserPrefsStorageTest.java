@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
@@ -70,6 +71,16 @@ public class JsonUserPrefsStorageTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void readUserPrefs_articlePageSizeInFile_pageSizeRead() throws DataLoadingException {
+        UserPrefs expected = getTypicalUserPrefs();
+        expected.setArticlePageSize(50);
+        UserPrefs actual = readUserPrefs("PagedUserPref.json").get();
+
+        assertEquals(expected, actual);
+        assertNotEquals(getTypicalUserPrefs(), actual);
+    }
+
     private UserPrefs getTypicalUserPrefs() {
         UserPrefs userPrefs = new UserPrefs();
         userPrefs.setGuiSettings(new GuiSettings(1000, 500, 300, 100));
@@ -0,0 +1,134 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindSaverTest {
+
+    private static final long LONG_DELAY_MILLIS = 60_000;
+
+    @TempDir
+    public Path testFolder;
+
+    // Set and read across the test and saver threads.
+    private volatile int addressBookWrites;
+    private volatile IOException writeError;
+    private RuntimeException writeFailure;
+    private StorageManager storage;
+
+    @BeforeEach
+    public void setUp() {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(testFolder.resolve("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (writeError != null) {
+                    throw writeError;
+                }
+                if (writeFailure != null) {
+                    throw writeFailure;
+                }
+                addressBookWrites++;
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        storage = new StorageManager(addressBookStorage, new JsonUserPrefsStorage(testFolder.resolve("prefs")),
+                new JsonArticleBookStorage(testFolder.resolve("artb")));
+    }
+
+    @Test
+    public void flush_burstOfRequests_writesLatestSnapshotOnce() throws Exception {
+        WriteBehindSaver saver = new WriteBehindSaver(storage, LONG_DELAY_MILLIS, LONG_DELAY_MILLIS);
+        AddressBook addressBook = new AddressBook();
+        saver.saveAddressBookLater(addressBook);
+        addressBook.addPerson(ALICE);
+        saver.saveAddressBookLater(addressBook);
+        saver.saveAddressBookLater(addressBook);
+
+        saver.close();
+        assertEquals(1, addressBookWrites);
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBookLater_laterChanges_notIncludedInSnapshot() throws Exception {
+        WriteBehindSaver saver = new WriteBehindSaver(storage, LONG_DELAY_MILLIS, LONG_DELAY_MILLIS);
+        AddressBook addressBook = getTypicalAddressBook();
+        saver.saveAddressBookLater(addressBook);
+        addressBook.removePerson(ALICE);
+
+        saver.close();
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBookLater_noFlush_writtenWithinStalenessBound() throws Exception {
+        WriteBehindSaver saver = new WriteBehindSaver(storage, LONG_DELAY_MILLIS, 0);
+        saver.saveAddressBookLater(getTypicalAddressBook());
+        for (int i = 0; i < 100 && addressBookWrites == 0; i++) {
+            Thread.sleep(20);
+        }
+        saver.close();
+        assertEquals(1, addressBookWrites);
+    }
+
+    @Test
+    public void flush_writeFails_throwsAndRetriesOnNextFlush() throws Exception {
+        WriteBehindSaver saver = new WriteBehindSaver(storage, LONG_DELAY_MILLIS, LONG_DELAY_MILLIS);
+        writeError = new IOException("disk full");
+        saver.saveAddressBookLater(getTypicalAddressBook());
+        assertThrows(IOException.class, "disk full", saver::flush);
+        assertTrue(saver.takeError().isPresent());
+        assertFalse(saver.takeError().isPresent());
+
+        writeError = null;
+        saver.close();
+        assertEquals(1, addressBookWrites);
+        assertTrue(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void flush_writeFailsUnexpectedly_throwsAndRetriesOnNextFlush() throws Exception {
+        WriteBehindSaver saver = new WriteBehindSaver(storage, LONG_DELAY_MILLIS, LONG_DELAY_MILLIS);
+        writeFailure = new IllegalStateException("cannot serialize");
+        saver.saveAddressBookLater(getTypicalAddressBook());
+        assertThrows(IOException.class, saver::flush);
+        assertTrue(saver.takeError().isPresent());
+
+        writeFailure = null;
+        saver.close();
+        assertEquals(1, addressBookWrites);
+        assertTrue(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBookLater_writeFailsOnce_retriedWithoutFurtherRequests() throws Exception {
+        WriteBehindSaver saver = new WriteBehindSaver(storage, 10, LONG_DELAY_MILLIS);
+        writeError = new IOException("disk full");
+        saver.saveAddressBookLater(getTypicalAddressBook());
+        for (int i = 0; i < 100 && !saver.takeError().isPresent(); i++) {
+            Thread.sleep(20);
+        }
+
+        writeError = null;
+        for (int i = 0; i < 100 && addressBookWrites == 0; i++) {
+            Thread.sleep(20);
+        }
+        assertEquals(1, addressBookWrites);
+        saver.close();
+        assertEquals(1, addressBookWrites);
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class FxThreadListMirrorTest {
+
+    private final List<Runnable> pendingTasks = new ArrayList<>();
+    private final ObservableList<String> source = FXCollections.observableArrayList("c", "a", "d", "b");
+    private final ObservableList<String> mirror = FxThreadListMirror.of(source, pendingTasks::add);
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> FxThreadListMirror.of(null, pendingTasks::add));
+        assertThrows(NullPointerException.class, () -> FxThreadListMirror.of(source, null));
+    }
+
+    @Test
+    public void of_sourceNotChanged_sameItems() {
+        assertEquals(source, mirror);
+    }
+
+    @Test
+    public void change_beforeTasksRun_mirrorUnchanged() {
+        source.add("e");
+        source.remove("a");
+
+        assertEquals(List.of("c", "a", "d", "b"), mirror);
+    }
+
+    @Test
+    public void change_afterTasksRun_mirrorMatchesSource() {
+        source.add("e");
+        source.remove("a");
+        source.set(0, "f");
+        source.add(1, "g");
+        source.sort(Comparator.naturalOrder());
+        source.remove(1, 3);
+        runPendingTasks();
+
+        assertEquals(source, mirror);
+    }
+
+    @Test
+    public void setAll_afterTasksRun_mirrorMatchesSource() {
+        source.setAll("x", "y");
+        runPendingTasks();
+
+        assertEquals(List.of("x", "y"), mirror);
+    }
+
+    @Test
+    public void change_sourceChangedAgainBeforeTaskRuns_addedItemsKept() {
+        source.add("e");
+        source.clear();
+        pendingTasks.get(0).run();
+
+        assertEquals(List.of("c", "a", "d", "b", "e"), mirror);
+    }
+
+    private void runPendingTasks() {
+        pendingTasks.forEach(Runnable::run);
+        pendingTasks.clear();
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.address.ui;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.Scene;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.Region;
+import javafx.stage.Stage;
+import seedu.address.model.article.Article;
+import seedu.address.model.article.Author;
+import seedu.address.model.article.Link;
+import seedu.address.model.article.Outlet;
+import seedu.address.model.article.PublicationDate;
+import seedu.address.model.article.Source;
+import seedu.address.model.article.Title;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Measures how long the article and person list panels take to scroll, and how much they allocate while doing so,
+ * on synthetic lists of 10k articles and persons. Each step scrolls a few rows further and lays the panel out, so
+ * that every step shows items that were not shown by the step before.
+ *
+ * Not one of the tests, as it needs a display. Run its main method with a fixed heap, e.g. {@code -Xms1g -Xmx1g},
+ * for steady results.
+ */
+public class ListPanelScrollBenchmark {
+    private static final int ITEM_COUNT = 10_000;
+    private static final int ROWS_PER_STEP = 3;
+    private static final int WARM_UP_STEPS = 500;
+    private static final int MEASURED_STEPS = 2_000;
+
+    public static void main(String[] args) throws InterruptedException {
+        CountDownLatch isDone = new CountDownLatch(1);
+        Platform.startup(() -> {
+            try {
+                measure("Article list", new ArticleListPanel(createArticles()).getRoot(), "#articleListView");
+                measure("Person list", new PersonListPanel(createPersons()).getRoot(), "#personListView");
+            } finally {
+                isDone.countDown();
+            }
+        });
+        isDone.await();
+        Platform.exit();
+    }
+
+    private static void measure(String panelName, Region root, String listViewSelector) {
+        Stage stage = new Stage();
+        stage.setScene(new Scene(root, 800, 600));
+        stage.show();
+        ListView<?> listView = (ListView<?>) root.lookup(listViewSelector);
+
+        scroll(listView, root, WARM_UP_STEPS);
+        long allocatedBefore = getAllocatedBytes();
+        long startTime = System.nanoTime();
+        scroll(listView, root, MEASURED_STEPS);
+        long elapsedNanos = System.nanoTime() - startTime;
+        long allocatedBytes = getAllocatedBytes() - allocatedBefore;
+        stage.close();
+
+        System.out.printf("%s: %.3f ms and %d bytes allocated per scroll step%n", panelName,
+                elapsedNanos / 1e6 / MEASURED_STEPS, allocatedBytes / MEASURED_STEPS);
+    }
+
+    private static void scroll(ListView<?> listView, Region root, int steps) {
+        for (int i = 0; i < steps; i++) {
+            listView.scrollTo((i * ROWS_PER_STEP) % ITEM_COUNT);
+            root.applyCss();
+            root.layout();
+        }
+    }
+
+    private static long getAllocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static ObservableList<Article> createArticles() {
+        List<Article> articles = new ArrayList<>();
+        LocalDateTime firstDate = LocalDateTime.of(2000, 1, 1, 0, 0);
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            articles.add(new Article(new Title("Article " + i),
+                    Set.of(Author.of("Author " + i % 300), Author.of("Author " + (i + 1) % 300)),
+                    Set.of(Source.of("Source " + i % 500)), Set.of(Tag.of("Tag" + i % 20)),
+                    Set.of(Outlet.of("Outlet " + i % 10)), new PublicationDate(firstDate.plusHours(i)),
+                    Article.Status.values()[i % 3], new Link("https://www.example.com/articles/" + i)));
+        }
+        return FXCollections.observableArrayList(articles);
+    }
+
+    private static ObservableList<Person> createPersons() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            persons.add(new Person(new Name("Person " + i), new Phone(String.format("9%07d", i)),
+                    new Email("person" + i + "@example.com"), new Address("Block " + i + ", Example Street"),
+                    Set.of(Tag.of("Tag" + i % 20))));
+        }
+        return FXCollections.observableArrayList(persons);
+    }
+}